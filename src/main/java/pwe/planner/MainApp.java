@@ -9,12 +9,15 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import pwe.planner.commons.core.Config;
 import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.core.StorageFormat;
 import pwe.planner.commons.core.Version;
 import pwe.planner.commons.exceptions.DataConversionException;
 import pwe.planner.commons.util.ConfigUtil;
+import pwe.planner.commons.util.FileUtil;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.Logic;
 import pwe.planner.logic.LogicManager;
@@ -22,10 +25,14 @@ import pwe.planner.model.Model;
 import pwe.planner.model.ModelManager;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.ReadOnlyUserPrefs;
+import pwe.planner.model.UndoHistorySpill;
 import pwe.planner.model.UserPrefs;
 import pwe.planner.model.util.SampleDataUtil;
 import pwe.planner.storage.ApplicationStorage;
+import pwe.planner.storage.BinaryApplicationStorage;
+import pwe.planner.storage.JournalApplicationStorage;
 import pwe.planner.storage.JsonApplicationStorage;
+import pwe.planner.storage.JsonUndoHistorySpill;
 import pwe.planner.storage.JsonUserPrefsStorage;
 import pwe.planner.storage.Storage;
 import pwe.planner.storage.StorageManager;
@@ -47,6 +54,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected UndoHistorySpill undoHistorySpill;
 
     @Override
     public void init() throws Exception {
@@ -58,14 +66,15 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ApplicationStorage applicationStorage =
-                new JsonApplicationStorage(userPrefs.getModuleListFilePath(), userPrefs.getDegreePlannerListFilePath(),
-                        userPrefs.getRequirementCategoryListFilePath());
+        ApplicationStorage applicationStorage = initApplicationStorage(userPrefs);
 
-        storage = new StorageManager(applicationStorage, userPrefsStorage);
+        // failures of background saves are published on the JavaFX application thread, as they are shown in the UI
+        storage = new StorageManager(applicationStorage, userPrefsStorage, userPrefs.isWriteBehindEnabled(),
+                Platform::runLater);
 
         initLogging(config);
 
+        undoHistorySpill = initUndoHistorySpill(userPrefs);
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
@@ -73,6 +82,66 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns an {@code ApplicationStorage} in {@code userPrefs}'s storage format.
+     * The binary data files only exist while the binary storage format is used, so that the data files of the
+     * storage format switched to can be brought up to date: if the binary storage format is used but there are no
+     * binary data files yet, the data in the JSON data files is imported into them, and if the JSON storage format is
+     * used but there are binary data files, their data is exported to the JSON data files and they are deleted.
+     * Likewise, the journal only exists while it is enabled: once it is disabled, it is merged into the JSON data
+     * files and deleted.
+     */
+    private ApplicationStorage initApplicationStorage(ReadOnlyUserPrefs userPrefs) {
+        JournalApplicationStorage journalApplicationStorage =
+                new JournalApplicationStorage(userPrefs.getModuleListFilePath(),
+                        userPrefs.getDegreePlannerListFilePath(), userPrefs.getRequirementCategoryListFilePath(),
+                        userPrefs.getJournalFilePath());
+        JsonApplicationStorage jsonApplicationStorage = journalApplicationStorage;
+        if (!userPrefs.isJournalEnabled()) {
+            try {
+                if (journalApplicationStorage.mergeJournal()) {
+                    logger.info("Merged journal into JSON data files");
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to merge journal into JSON data files: " + StringUtil.getDetails(e));
+            }
+            jsonApplicationStorage = new JsonApplicationStorage(userPrefs.getModuleListFilePath(),
+                    userPrefs.getDegreePlannerListFilePath(), userPrefs.getRequirementCategoryListFilePath());
+        }
+        BinaryApplicationStorage binaryApplicationStorage = new BinaryApplicationStorage(
+                BinaryApplicationStorage.toBinaryFilePath(userPrefs.getModuleListFilePath()),
+                BinaryApplicationStorage.toBinaryFilePath(userPrefs.getDegreePlannerListFilePath()),
+                BinaryApplicationStorage.toBinaryFilePath(userPrefs.getRequirementCategoryListFilePath()));
+        boolean hasBinaryDataFiles = FileUtil.isFileExists(binaryApplicationStorage.getModuleListFilePath());
+
+        if (userPrefs.getStorageFormat() == StorageFormat.BINARY) {
+            if (!hasBinaryDataFiles) {
+                try {
+                    if (binaryApplicationStorage.importApplication(jsonApplicationStorage)) {
+                        logger.info("Imported JSON data files into binary data files");
+                    }
+                } catch (DataConversionException | IOException e) {
+                    logger.warning("Failed to import JSON data files into binary data files: "
+                            + StringUtil.getDetails(e));
+                }
+            }
+            return binaryApplicationStorage;
+        }
+
+        if (hasBinaryDataFiles) {
+            try {
+                if (binaryApplicationStorage.exportApplication(jsonApplicationStorage)) {
+                    logger.info("Exported binary data files into JSON data files");
+                }
+                binaryApplicationStorage.deleteDataFiles();
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to export binary data files into JSON data files: "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        return jsonApplicationStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s module list, requirement categories
      * list, degree planner list and {@code userPrefs}. <br>
@@ -106,8 +175,23 @@ public class MainApp extends Application {
             initialData = getInitialApplication();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, undoHistorySpill);
+
+    }
 
+    /**
+     * Returns an empty {@code UndoHistorySpill} using the file at {@code userPrefs}'s undo history spill file path.
+     * Any undo history left in the file by a previous session is discarded.
+     */
+    private UndoHistorySpill initUndoHistorySpill(ReadOnlyUserPrefs userPrefs) {
+        UndoHistorySpill initializedUndoHistorySpill =
+                new JsonUndoHistorySpill(userPrefs.getUndoHistorySpillFilePath());
+        try {
+            initializedUndoHistorySpill.clear();
+        } catch (IOException e) {
+            logger.warning("Failed to clear undo history spill " + StringUtil.getDetails(e));
+        }
+        return initializedUndoHistorySpill;
     }
 
     private void initLogging(Config config) {
@@ -198,11 +282,21 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping PlanWithEase ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            undoHistorySpill.clear();
+        } catch (IOException e) {
+            logger.warning("Failed to clear undo history spill " + StringUtil.getDetails(e));
+        }
     }
 
     public static void main(String[] args) {
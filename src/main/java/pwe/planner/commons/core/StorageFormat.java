@@ -0,0 +1,11 @@
+package pwe.planner.commons.core;
+
+/**
+ * The formats in which the application data can be stored.
+ */
+public enum StorageFormat {
+    /** Human-readable JSON data files, with a journal of the changes made since they were last written. */
+    JSON,
+    /** Compact binary data files, which are faster to read and write than JSON data files. */
+    BINARY
+}
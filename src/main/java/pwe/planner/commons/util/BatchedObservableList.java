@@ -0,0 +1,78 @@
+package pwe.planner.commons.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList} whose modifications can be grouped into a batch.
+ *
+ * Modifications made between {@link #beginBatch()} and the matching {@link #endBatch()} are not published one at a
+ * time. Instead, they are published to the list's listeners as a single change when the outermost batch ends.
+ * Batches may be nested.
+ *
+ * Every modification also gives the list a new modification stamp. Stamps are drawn from a counter shared by all
+ * lists, so a list's stamp only increases, and no two versions of any lists share a stamp. Comparing stamps is thus
+ * a cheap way to check whether a list has changed.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private static final AtomicLong lastModificationStamp = new AtomicLong();
+
+    private final List<E> backingList = new ArrayList<>();
+    private long modificationStamp = lastModificationStamp.incrementAndGet();
+
+    /**
+     * Starts a batch of modifications. Every call must be matched by a call to {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends a batch of modifications started by {@link #beginBatch()}.
+     * If this ends the outermost batch, the modifications made during the batch are published as a single change.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    /**
+     * Returns the stamp of the current version of this list.
+     */
+    public long getModificationStamp() {
+        return modificationStamp;
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+        modificationStamp = lastModificationStamp.incrementAndGet();
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E replacedElement = backingList.set(index, element);
+        modificationStamp = lastModificationStamp.incrementAndGet();
+        return replacedElement;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E removedElement = backingList.remove(index);
+        modificationStamp = lastModificationStamp.incrementAndGet();
+        return removedElement;
+    }
+}
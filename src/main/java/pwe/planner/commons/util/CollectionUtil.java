@@ -4,9 +4,18 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
+import javafx.collections.ObservableList;
+
 /**
  * Utility methods related to Collections
  */
@@ -34,4 +43,126 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the keys, as returned by {@code keyMapper}, that are shared by more than one element of {@code items},
+     * in the order in which their first duplicate appears. The keys must have consistent equals and hashCode methods.
+     */
+    public static <T, K> Set<K> findDuplicateKeys(Collection<? extends T> items,
+            Function<? super T, ? extends K> keyMapper) {
+        requireAllNonNull(items, keyMapper);
+
+        Set<K> keys = new HashSet<>();
+        Set<K> duplicateKeys = new LinkedHashSet<>();
+        for (T item : items) {
+            K key = keyMapper.apply(item);
+            if (!keys.add(key)) {
+                duplicateKeys.add(key);
+            }
+        }
+        return duplicateKeys;
+    }
+
+    /**
+     * Replaces the elements of {@code list} from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}.
+     * Elements are replaced in place where possible, so that a replacement of the same size only sets elements.
+     */
+    public static <T> void replaceRange(List<T> list, int fromIndex, int toIndex, List<? extends T> replacement) {
+        requireAllNonNull(list, replacement);
+
+        int replacedCount = Math.min(toIndex - fromIndex, replacement.size());
+        for (int i = 0; i < replacedCount; i++) {
+            list.set(fromIndex + i, replacement.get(i));
+        }
+
+        if (replacedCount < toIndex - fromIndex) {
+            list.subList(fromIndex + replacedCount, toIndex).clear();
+        } else if (replacedCount < replacement.size()) {
+            list.addAll(fromIndex + replacedCount, replacement.subList(replacedCount, replacement.size()));
+        }
+    }
+
+    /**
+     * Replaces the contents of {@code list} with {@code elements}, changing only the elements that differ.
+     * Elements are matched by the key returned by {@code keyMapper}, which must be unique within each list.
+     * Elements of {@code list} whose keys are not in {@code elements} are removed, elements of {@code elements} whose
+     * keys are not in {@code list} are inserted, and matched elements that are not equal are replaced in place.
+     *
+     * If the matched elements are in a different order, or more than half of the elements differ, all elements are
+     * replaced at once instead, as a single change is cheaper for listeners than many small ones.
+     */
+    public static <T> void setAllByKey(ObservableList<T> list, List<? extends T> elements,
+            Function<? super T, ?> keyMapper) {
+        requireAllNonNull(list, elements, keyMapper);
+
+        Map<Object, Integer> elementIndexByKey = new HashMap<>();
+        for (int i = 0; i < elements.size(); i++) {
+            elementIndexByKey.put(keyMapper.apply(elements.get(i)), i);
+        }
+
+        int matchedCount = 0;
+        int changedCount = 0;
+        int previousIndex = -1;
+        for (T element : list) {
+            Integer index = elementIndexByKey.get(keyMapper.apply(element));
+            if (index == null) {
+                changedCount++;
+                continue;
+            }
+            if (index < previousIndex) {
+                list.setAll(elements);
+                return;
+            }
+
+            previousIndex = index;
+            matchedCount++;
+            if (!element.equals(elements.get(index))) {
+                changedCount++;
+            }
+        }
+        changedCount += elements.size() - matchedCount;
+        if (changedCount * 2 > Math.max(list.size(), elements.size())) {
+            list.setAll(elements);
+            return;
+        }
+
+        // remove the unmatched elements, a run of adjacent elements at a time
+        int i = list.size() - 1;
+        while (i >= 0) {
+            int runEnd = i + 1;
+            while (i >= 0 && !elementIndexByKey.containsKey(keyMapper.apply(list.get(i)))) {
+                i--;
+            }
+            if (i + 1 < runEnd) {
+                list.subList(i + 1, runEnd).clear();
+            }
+            i--;
+        }
+
+        // the remaining elements are now matched in order, so insert the new elements between them and replace the
+        // changed ones
+        int listIndex = 0;
+        int elementIndex = 0;
+        while (elementIndex < elements.size()) {
+            int runStart = elementIndex;
+            while (elementIndex < elements.size() && (listIndex == list.size()
+                    || !Objects.equals(keyMapper.apply(list.get(listIndex)),
+                            keyMapper.apply(elements.get(elementIndex))))) {
+                elementIndex++;
+            }
+            if (runStart < elementIndex) {
+                list.addAll(listIndex, elements.subList(runStart, elementIndex));
+                listIndex += elementIndex - runStart;
+                continue;
+            }
+
+            T element = elements.get(elementIndex);
+            if (!list.get(listIndex).equals(element)) {
+                list.set(listIndex, element);
+            }
+            listIndex++;
+            elementIndex++;
+        }
+    }
 }
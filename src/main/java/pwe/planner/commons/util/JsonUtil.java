@@ -4,14 +4,20 @@ import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -31,6 +37,8 @@ public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
@@ -40,15 +48,67 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /**
+     * Writes {@code objectToSerialize} to {@code jsonFile}.
+     * The data is written to a temporary file beside {@code jsonFile}, which is then moved over it, so that
+     * {@code jsonFile} is left unchanged if the data cannot be written completely.
+     */
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        requireAllNonNull(jsonFile, objectToSerialize);
+
+        Path temporaryFile = jsonFile.resolveSibling(jsonFile.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                writeJsonStream(outputStream, objectToSerialize);
+            }
+            Files.move(temporaryFile, jsonFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(temporaryFile);
+            throw ioe;
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
         requireAllNonNull(jsonFile, classOfObjectToDeserialize);
 
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream inputStream = Files.newInputStream(jsonFile)) {
+            return readJsonStream(inputStream, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Writes the JSON data representation of the given instance of a class to {@code outputStream}.
+     * The data is streamed through Jackson's own output buffer, without building it as a string first.
+     * {@code outputStream} is flushed but not closed.
+     * @param outputStream cannot be null
+     * @param instance The T object to be converted into JSON data
+     * @throws IOException if there was an error during writing to the stream
+     */
+    public static <T> void writeJsonStream(OutputStream outputStream, T instance) throws IOException {
+        requireAllNonNull(outputStream, instance);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(generator, instance);
+        }
+    }
+
+    /**
+     * Reads an instance of a class from the JSON data in {@code inputStream}.
+     * The data is parsed as it is streamed through Jackson's own input buffer, without reading it into a string
+     * first. {@code inputStream} is not closed.
+     * @param inputStream cannot be null
+     * @param instanceClass JSON data has to correspond to the structure in the class given here.
+     * @throws IOException if there was an error during reading from the stream, or the data is not as expected
+     */
+    public static <T> T readJsonStream(InputStream inputStream, Class<T> instanceClass) throws IOException {
+        requireAllNonNull(inputStream, instanceClass);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return objectMapper.readValue(parser, instanceClass);
+        }
     }
 
     /**
@@ -116,6 +176,18 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any whitespace
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        requireNonNull(instance);
+
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,51 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Interns immutable values identified by a string key, so that equal values can share a single canonical instance.
+ * Canonical instances are only weakly referenced, so a value is evicted once it is no longer used anywhere else.
+ *
+ * @param <T> the type of the interned values.
+ */
+public class WeakInterner<T> {
+    /*
+     * The keys of the map are the key strings held by the canonical values themselves, so an entry is only weakly
+     * reachable, and cleared by the garbage collector, once its canonical value is.
+     */
+    private final Map<String, WeakReference<T>> canonicalValues = new WeakHashMap<>();
+    private final Function<String, T> factory;
+    private final Function<T, String> keyOf;
+
+    /**
+     * @param factory creates a new value for a key.
+     * @param keyOf returns the key held by a value, which must be equal to the key it was created for.
+     */
+    public WeakInterner(Function<String, T> factory, Function<T, String> keyOf) {
+        requireAllNonNull(factory, keyOf);
+
+        this.factory = factory;
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating it if there is no value for {@code key} in use.
+     */
+    public synchronized T intern(String key) {
+        requireNonNull(key);
+
+        WeakReference<T> reference = canonicalValues.get(key);
+        T value = reference != null ? reference.get() : null;
+        if (value == null) {
+            value = factory.apply(key);
+            canonicalValues.put(keyOf.apply(value), new WeakReference<>(value));
+        }
+        return value;
+    }
+}
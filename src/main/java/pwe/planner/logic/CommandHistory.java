@@ -2,8 +2,13 @@ package pwe.planner.logic;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.core.index.Index;
 
 /**
  * Stores the history of commands executed.
@@ -12,6 +17,9 @@ public class CommandHistory {
     private final ObservableList<String> userInputHistory = FXCollections.observableArrayList();
     private final ObservableList<String> unmodifiableUserInputHistory =
             FXCollections.unmodifiableObservableList(userInputHistory);
+    // applicationStateIdHistory.get(i) is the id of the application state before the i-th user input was executed,
+    // or null if it is unknown
+    private final List<Long> applicationStateIdHistory = new ArrayList<>();
 
     public CommandHistory() {}
 
@@ -19,6 +27,7 @@ public class CommandHistory {
         requireNonNull(commandHistory);
 
         userInputHistory.addAll(commandHistory.userInputHistory);
+        applicationStateIdHistory.addAll(commandHistory.applicationStateIdHistory);
     }
 
     /**
@@ -28,6 +37,31 @@ public class CommandHistory {
         requireNonNull(userInput);
 
         userInputHistory.add(userInput);
+        applicationStateIdHistory.add(null);
+    }
+
+    /**
+     * Appends {@code userInput} to the list of user input entered, which was executed when the application was in
+     * the saved state with the id {@code applicationStateId}.
+     */
+    public void add(String userInput, long applicationStateId) {
+        requireNonNull(userInput);
+
+        userInputHistory.add(userInput);
+        applicationStateIdHistory.add(applicationStateId);
+    }
+
+    /**
+     * Returns the id of the application state before the user input at {@code commandNumber} was executed, or an
+     * empty {@code Optional} if there is no such user input or the state is unknown.
+     */
+    public Optional<Long> getApplicationStateIdBefore(Index commandNumber) {
+        requireNonNull(commandNumber);
+
+        if (commandNumber.getZeroBased() >= applicationStateIdHistory.size()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(applicationStateIdHistory.get(commandNumber.getZeroBased()));
     }
 
     /**
@@ -51,7 +85,8 @@ public class CommandHistory {
 
         // state check
         CommandHistory other = (CommandHistory) obj;
-        return userInputHistory.equals(other.userInputHistory);
+        return userInputHistory.equals(other.userInputHistory)
+                && applicationStateIdHistory.equals(other.applicationStateIdHistory);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package pwe.planner.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -10,9 +11,11 @@ import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.Model;
 import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.storage.Storage;
 
 /**
  * API of the Logic component
@@ -38,6 +41,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of modules */
     ObservableList<Module> getFilteredModuleList();
 
+    /**
+     * Returns the module with the same module code as {@code code}, or null if there is no such module.
+     *
+     * @see Model#getModuleByCode(Code)
+     */
+    Module getModuleByCode(Code code);
+
     /** Returns an unmodifiable view of the filtered degreePlanner list */
     ObservableList<DegreePlanner> getFilteredDegreePlannerList();
 
@@ -55,6 +65,16 @@ public interface Logic {
      */
     Path getModuleListFilePath();
 
+    /**
+     * Failure of the latest save of the application which was made in the background, after the command which
+     * modified the application returned.
+     * null if that save succeeded. In the application, the property is updated on the JavaFX application thread,
+     * so its listeners may update the UI directly.
+     *
+     * @see Storage#saveFailureProperty()
+     */
+    ReadOnlyProperty<IOException> saveFailureProperty();
+
     /**
      * Returns the user prefs' GUI settings.
      */
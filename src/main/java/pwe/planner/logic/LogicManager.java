@@ -18,6 +18,7 @@ import pwe.planner.logic.parser.CommandParser;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.Model;
 import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
@@ -34,7 +35,6 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final CommandHistory history;
     private final CommandParser commandParser;
-    private boolean applicationModified;
 
     public LogicManager(Model model, Storage storage) {
         requireAllNonNull(model, storage);
@@ -43,9 +43,6 @@ public class LogicManager implements Logic {
         this.storage = storage;
         history = new CommandHistory();
         commandParser = new CommandParser();
-
-        // Set applicationModified to true whenever the models' application is modified.
-        model.getApplication().addListener(observable -> applicationModified = true);
     }
 
     @Override
@@ -53,17 +50,18 @@ public class LogicManager implements Logic {
         requireNonNull(commandText);
 
         logger.info("----------------[USER COMMAND][" + commandText + "]");
-        applicationModified = false;
-
+        // the application's data has changed if and only if its modification stamp has changed
+        long modificationStamp = model.getApplication().getModificationStamp();
+        long applicationStateId = model.getApplicationStateId();
         CommandResult commandResult;
         try {
             Command command = commandParser.parseCommand(commandText);
             commandResult = command.execute(model, history);
         } finally {
-            history.add(commandText);
+            history.add(commandText, applicationStateId);
         }
 
-        if (applicationModified) {
+        if (model.getApplication().getModificationStamp() != modificationStamp) {
             logger.info("Application modified, saving to file.");
             try {
                 storage.saveApplication(model.getApplication());
@@ -85,6 +83,11 @@ public class LogicManager implements Logic {
         return model.getFilteredModuleList();
     }
 
+    @Override
+    public Module getModuleByCode(Code code) {
+        return model.getModuleByCode(code);
+    }
+
     @Override
     public ObservableList<DegreePlanner> getFilteredDegreePlannerList() {
         return model.getFilteredDegreePlannerList();
@@ -105,6 +108,11 @@ public class LogicManager implements Logic {
         return model.getModuleListFilePath();
     }
 
+    @Override
+    public ReadOnlyProperty<IOException> saveFailureProperty() {
+        return storage.saveFailureProperty();
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
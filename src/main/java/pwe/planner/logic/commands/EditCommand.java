@@ -128,7 +128,8 @@ public class EditCommand extends Command {
         if (!moduleToEdit.getCorequisites().equals(editedModule.getCorequisites())) {
             ensureDegreePlannerUnaffectedByEditedCorequisites(model, moduleToEdit, editedModule);
         }
-        if (!moduleToEdit.getSemesters().equals(editedModule.getSemesters())) {
+        // Only semesters that are no longer offered can invalidate the semester the module is planned in
+        if (!editedModule.isOfferedInAll(moduleToEdit.getSemesters())) {
             ensureDegreePlannerUnaffectedByEditedSemesters(model, moduleToEdit, editedModule);
         }
 
@@ -313,7 +314,7 @@ public class EditCommand extends Command {
             return;
         }
 
-        if (!editedModule.getSemesters().contains(degreePlannerContainingModuleToEdit.getSemester())) {
+        if (!editedModule.isOfferedIn(degreePlannerContainingModuleToEdit.getSemester())) {
             String semestersToEdit = joinStreamAsString(moduleToEdit.getSemesters().stream().sorted());
             String editedSemesters = joinStreamAsString(editedModule.getSemesters().stream().sorted());
             String exceptionMessage = String.format(MESSAGE_INVALID_SEMESTER, moduleToEdit.getCode(), semestersToEdit,
@@ -16,6 +16,7 @@ import java.util.function.Predicate;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.model.Model;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all modules in application whose name or code contains any of the argument keywords.
@@ -58,7 +59,11 @@ public class FindCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
 
-        model.updateFilteredModuleList(predicate);
+        // a name search looks up the modules through the model's name word index, rather than splitting every name
+        Predicate<Module> indexedPredicate = predicate instanceof NameContainsKeywordsPredicate
+                ? ((NameContainsKeywordsPredicate<Module>) predicate).withNameWordIndex(model::getModuleCodesByNameWord)
+                : predicate;
+        model.updateFilteredModuleList(indexedPredicate);
         return new CommandResult(
                 String.format(MESSAGE_MODULES_LISTED_OVERVIEW, model.getFilteredModuleList().size()));
     }
@@ -11,22 +11,25 @@ import pwe.planner.logic.CommandHistory;
 import pwe.planner.model.Model;
 
 /**
- * Lists all the commands entered by user from the start of app launch.
+ * Lists all the commands entered by user from the start of app launch, and the size of the undo history.
  */
 public class HistoryCommand extends Command {
 
     public static final String COMMAND_WORD = "history";
     public static final String MESSAGE_SUCCESS = "Entered commands (from most recent to earliest):\n%1$s";
     public static final String MESSAGE_NO_HISTORY = "You have not entered any commands yet!";
+    public static final String MESSAGE_UNDO_HISTORY =
+            "Undo history: %1$d saved states (%2$d of them on disk), using about %3$d KB of memory";
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
         requireNonNull(history);
 
         List<String> commandHistory = history.getHistory();
 
         if (commandHistory.isEmpty()) {
-            return new CommandResult(MESSAGE_NO_HISTORY);
+            return new CommandResult(withUndoHistory(MESSAGE_NO_HISTORY, model));
         }
 
         List<String> reversedCommandHistory = new ArrayList<>(commandHistory);
@@ -36,7 +39,17 @@ public class HistoryCommand extends Command {
                 .map(command -> "- " + command)
                 .collect(Collectors.joining("\n"));
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, preppedReversedCommandHistory));
+        String commandHistoryMessage = String.format(MESSAGE_SUCCESS, preppedReversedCommandHistory);
+        return new CommandResult(withUndoHistory(commandHistoryMessage, model));
+    }
+
+    /**
+     * Returns {@code message} followed by the size of the undo history of {@code model}.
+     */
+    private static String withUndoHistory(String message, Model model) {
+        String undoHistory = String.format(MESSAGE_UNDO_HISTORY, model.getUndoHistorySize(),
+                model.getSpilledUndoHistorySize(), model.getEstimatedUndoHistoryBytes() / 1024);
+        return message + "\n\n" + undoHistory;
     }
 
 }
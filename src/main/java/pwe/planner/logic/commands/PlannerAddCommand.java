@@ -85,9 +85,8 @@ public class PlannerAddCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_DEGREE_PLANNER, yearToAddTo, semesterToAddTo));
         }
 
-        Set<Code> duplicatePlannerCodes = codesToAdd.stream().filter(codesToCheck -> model.getApplication()
-                .getDegreePlannerList().stream().map(DegreePlanner::getCodes)
-                .anyMatch(selectedPlannerCodes -> selectedPlannerCodes.contains(codesToCheck)))
+        Set<Code> duplicatePlannerCodes = codesToAdd.stream()
+                .filter(codeToCheck -> model.getDegreePlannerByCode(codeToCheck) != null)
                 .collect(Collectors.toSet());
         if (!duplicatePlannerCodes.isEmpty()) {
             // Converts a set to a string to remove the brackets of set.
@@ -102,8 +101,9 @@ public class PlannerAddCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_MODULES, nonExistentModuleString));
         }
 
-        Set<Code> invalidSemesterCodes = codesToAdd.stream().filter(codeToCheck -> !model.getModuleByCode(codeToCheck)
-                        .getSemesters().contains(semesterToAddTo)).collect(Collectors.toSet());
+        Set<Code> invalidSemesterCodes = codesToAdd.stream()
+                .filter(codeToCheck -> !model.getModuleByCode(codeToCheck).isOfferedIn(semesterToAddTo))
+                .collect(Collectors.toSet());
         if (!invalidSemesterCodes.isEmpty()) {
             String invalidSemCodesString = StringUtil.joinStreamAsString(invalidSemesterCodes.stream().sorted());
             throw new CommandException(String.format(MESSAGE_CODE_INVALID_SEMESTER, invalidSemCodesString,
@@ -116,7 +116,7 @@ public class PlannerAddCommand extends Command {
                 .forEach(coreqsOfCodesToAdd::addAll);
         // Returns the invalid co-requisite(s) of codes to add.
         Set<Code> invalidSemesterCoreqs = coreqsOfCodesToAdd.stream()
-                .filter(codeToCheck -> !model.getModuleByCode(codeToCheck).getSemesters().contains(semesterToAddTo))
+                .filter(codeToCheck -> !model.getModuleByCode(codeToCheck).isOfferedIn(semesterToAddTo))
                     .collect(Collectors.toSet());
         if (!invalidSemesterCoreqs.isEmpty()) {
             // Returns the codes to add that has invalid co-requisite(s).
@@ -140,13 +140,13 @@ public class PlannerAddCommand extends Command {
             Module module = model.getModuleByCode(codeToAdd);
 
             // Returns the relevant duplicate co-requisite(s) of the code to add in the entire degree plan.
-            Set<Code> duplicateCoreqs = module.getCorequisites().stream().filter(coreqToCheck -> model.getApplication()
-                    .getDegreePlannerList().stream().map(DegreePlanner::getCodes)
-                    .anyMatch(selectedPlannerCodes -> selectedPlannerCodes.contains(coreqToCheck)))
+            Set<Code> duplicateCoreqs = module.getCorequisites().stream()
+                    .filter(coreqToCheck -> model.getDegreePlannerByCode(coreqToCheck) != null)
                     .collect(Collectors.toSet());
-            Set<Code> invalidCoreqs = new HashSet<>(duplicateCoreqs);
             // Returns the invalid duplicate co-requisite(s) that exists in a different section of the degree plan.
-            invalidCoreqs.removeAll(selectedDegreePlanner.getCodes());
+            Set<Code> invalidCoreqs = duplicateCoreqs.stream()
+                    .filter(coreqToCheck -> !selectedDegreePlanner.containsCode(coreqToCheck))
+                    .collect(Collectors.toSet());
             if (!invalidCoreqs.isEmpty()) {
                 String invalidCoreqsString = StringUtil.joinStreamAsString(invalidCoreqs.stream().sorted());
                 String codesToAddString = StringUtil.joinStreamAsString(codesToAdd.stream().sorted());
@@ -155,8 +155,7 @@ public class PlannerAddCommand extends Command {
 
             coreqsAdded.addAll(module.getCorequisites());
 
-            // Returns the valid duplicate co-requisite(s) that exists in the selected section of the degree plan.
-            duplicateCoreqs.retainAll(selectedDegreePlanner.getCodes());
+            // All duplicate co-requisite(s) are now known to exist in the selected section of the degree plan.
             // Records the co-requisites added for feedback to users.
             coreqsAdded.removeAll(duplicateCoreqs);
             selectedCodeSet.addAll(coreqsAdded);
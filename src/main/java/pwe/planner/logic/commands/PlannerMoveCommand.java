@@ -96,7 +96,7 @@ public class PlannerMoveCommand extends Command {
         }
 
         Module moduleToMove = model.getModuleByCode(toMove);
-        if (!moduleToMove.getSemesters().contains(destinationSemester)) {
+        if (!moduleToMove.isOfferedIn(destinationSemester)) {
             throw new CommandException(String.format(MESSAGE_UNAVAILABLE_SEMESTER, destinationSemester));
         }
 
@@ -106,8 +106,7 @@ public class PlannerMoveCommand extends Command {
         }
 
         Set<Code> codesNotOffered = moduleToMove.getCorequisites().stream()
-                .filter(corequisite -> !model.getModuleByCode(corequisite).getSemesters()
-                        .contains(destinationPlanner.getSemester()))
+                .filter(corequisite -> !model.getModuleByCode(corequisite).isOfferedIn(destinationSemester))
                 .collect(Collectors.toSet());
 
         if (!codesNotOffered.isEmpty()) {
@@ -7,8 +7,10 @@ import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -70,21 +72,23 @@ public class PlannerSuggestCommand extends Command {
         List<ModuleToSuggest> modulesToSuggest = new ArrayList<>();
         List<ModuleToSuggest> modulesWithMatchingTags = new ArrayList<>();
         List<ModuleToSuggest> modulesWithMatchingCredits = new ArrayList<>();
+        // Counts the matching tags of each module, only visiting the modules which carry each tag.
+        Map<Code, Integer> numberOfMatchingTags = new HashMap<>();
+        for (Tag tag : tagsToFind) {
+            model.getModuleCodesByTag(tag).forEach(code -> numberOfMatchingTags.merge(code, 1, Integer::sum));
+        }
+
         for (Module module : moduleList) {
-            // Finds the matching tags for each module.
-            Set<Tag> matchingTags = new HashSet<>(tagsToFind);
-            matchingTags.retainAll(module.getTags());
+            int matchingTagCount = numberOfMatchingTags.getOrDefault(module.getCode(), 0);
 
             // Finds the credits difference.
-            int credit = Integer.valueOf((module.getCredits().toString()));
-            int bestCredits = Integer.valueOf(creditsToFind.toString());
-            int creditDifference = abs(credit - bestCredits);
+            int creditDifference = abs(module.getCredits().getIntValue() - creditsToFind.getIntValue());
 
             ModuleToSuggest moduleToSuggest =
-                    new ModuleToSuggest(creditDifference, matchingTags.size(), module.getCode());
+                    new ModuleToSuggest(creditDifference, matchingTagCount, module.getCode());
             modulesToSuggest.add(moduleToSuggest);
 
-            if (!matchingTags.isEmpty()) {
+            if (matchingTagCount > 0) {
                 modulesWithMatchingTags.add(moduleToSuggest);
             }
 
@@ -1,6 +1,7 @@
 package pwe.planner.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
 import static pwe.planner.model.Model.PREDICATE_SHOW_ALL_MODULES;
 
 import pwe.planner.logic.CommandHistory;
@@ -8,24 +9,56 @@ import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Model;
 
 /**
- * Reverts the {@code model}'s application to its previously undone state.
+ * Reverts the {@code model}'s application to one of its previously undone states.
  */
 public class RedoCommand extends Command {
 
     public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reverts the application to a previously undone state.\n"
+            + "Parameters: [STEPS] (must be a positive integer, redoes 1 command if not given)\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
     public static final String MESSAGE_SUCCESS = "Redo success!";
     public static final String MESSAGE_FAILURE = "No more commands to redo!";
+    public static final String MESSAGE_INVALID_STEPS = "Number of commands to redo should be a positive integer";
+
+    private final int steps;
+
+    /**
+     * Creates a RedoCommand to redo the last undone command.
+     */
+    public RedoCommand() {
+        this(1);
+    }
+
+    /**
+     * Creates a RedoCommand to redo the last {@code steps} undone commands.
+     */
+    public RedoCommand(int steps) {
+        checkArgument(steps > 0, MESSAGE_INVALID_STEPS);
+
+        this.steps = steps;
+    }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        if (!model.canRedoApplication()) {
+        if (!model.canRedoApplication(steps)) {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.redoApplication();
+        model.redoApplication(steps);
         model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RedoCommand // instanceof handles nulls
+                && steps == ((RedoCommand) other).steps); // state check
+    }
 }
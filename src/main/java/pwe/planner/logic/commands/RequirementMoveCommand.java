@@ -14,7 +14,6 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
@@ -83,7 +82,6 @@ public class RequirementMoveCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        ObservableList<RequirementCategory> requirementCategories = model.getApplication().getRequirementCategoryList();
         RequirementCategory destinationRequirementCategory = model.getRequirementCategory(toFind);
 
         if (destinationRequirementCategory == null) {
@@ -98,9 +96,9 @@ public class RequirementMoveCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_CODE, nonExistentCodesErrorMessage));
         }
 
-        List<Code> codeNotInAnyRequirementCategory = toMove.stream().filter(code -> requirementCategories.stream()
-                .noneMatch(requirementCategory -> requirementCategory.getCodeSet()
-                .contains(code))).collect(Collectors.toList());
+        List<Code> codeNotInAnyRequirementCategory = toMove.stream()
+                .filter(code -> model.getRequirementCategoryByCode(code) == null)
+                .collect(Collectors.toList());
 
         if (!codeNotInAnyRequirementCategory.isEmpty()) {
             String codeNotInAnyRequirementCategoryErrorMessage =
@@ -109,41 +107,49 @@ public class RequirementMoveCommand extends Command {
                     codeNotInAnyRequirementCategoryErrorMessage));
         }
 
-        RequirementCategory singleSourceRequirementCategory = requirementCategories.stream()
-                .filter(requirementCategory -> requirementCategory.getCodeSet()
-                .containsAll(toMove)).findFirst().orElse(null);
-
-        //If all codes to be moved is from a requirement category only, all the codes can be moved together
-        if (singleSourceRequirementCategory != null) {
-            //Check if destination code contains codes to move for edge cases
-            if (!destinationRequirementCategory.getCodeSet().containsAll(toMove)) {
-                RequirementCategory editedSourceRequirementCategory =
-                        getRequirementCategoryWithCodesRemoved(singleSourceRequirementCategory, toMove);
-                RequirementCategory editedDestinationRequirementCategory =
-                        getRequirementCategoryWithCodesAdded(destinationRequirementCategory, toMove);
-
-                model.setRequirementCategory(singleSourceRequirementCategory, editedSourceRequirementCategory);
-                model.setRequirementCategory(destinationRequirementCategory, editedDestinationRequirementCategory);
-            }
-        } else {
-            for (Code code : toMove) {
+        Set<RequirementCategory> sourceRequirementCategories = toMove.stream()
+                .map(model::getRequirementCategoryByCode)
+                .collect(Collectors.toSet());
+        RequirementCategory singleSourceRequirementCategory = sourceRequirementCategories.size() == 1
+                ? sourceRequirementCategories.iterator().next()
+                : null;
+
+        model.beginBatch();
+        try {
+            //If all codes to be moved is from a requirement category only, all the codes can be moved together
+            if (singleSourceRequirementCategory != null) {
                 //Check if destination code contains codes to move for edge cases
-                if (!destinationRequirementCategory.getCodeSet().contains(code)) {
-                    RequirementCategory sourceRequirementCategory = requirementCategories.stream()
-                            .filter(reqCat -> reqCat.getCodeSet().contains(code)).findFirst().orElse(null);
-
+                if (!destinationRequirementCategory.getCodeSet().containsAll(toMove)) {
                     RequirementCategory editedSourceRequirementCategory =
-                            getRequirementCategoryWithCodeRemoved(sourceRequirementCategory, code);
+                            getRequirementCategoryWithCodesRemoved(singleSourceRequirementCategory, toMove);
                     RequirementCategory editedDestinationRequirementCategory =
-                            getRequirementCategoryWithCodeAdded(destinationRequirementCategory, code);
+                            getRequirementCategoryWithCodesAdded(destinationRequirementCategory, toMove);
 
-                    model.setRequirementCategory(sourceRequirementCategory, editedSourceRequirementCategory);
+                    model.setRequirementCategory(singleSourceRequirementCategory, editedSourceRequirementCategory);
                     model.setRequirementCategory(destinationRequirementCategory, editedDestinationRequirementCategory);
-
-                    //reinitialize the updated destination requirement category
-                    destinationRequirementCategory = model.getRequirementCategory(toFind);
+                }
+            } else {
+                for (Code code : toMove) {
+                    //Check if destination code contains codes to move for edge cases
+                    if (!destinationRequirementCategory.getCodeSet().contains(code)) {
+                        RequirementCategory sourceRequirementCategory = model.getRequirementCategoryByCode(code);
+
+                        RequirementCategory editedSourceRequirementCategory =
+                                getRequirementCategoryWithCodeRemoved(sourceRequirementCategory, code);
+                        RequirementCategory editedDestinationRequirementCategory =
+                                getRequirementCategoryWithCodeAdded(destinationRequirementCategory, code);
+
+                        model.setRequirementCategory(sourceRequirementCategory, editedSourceRequirementCategory);
+                        model.setRequirementCategory(destinationRequirementCategory,
+                                editedDestinationRequirementCategory);
+
+                        //reinitialize the updated destination requirement category
+                        destinationRequirementCategory = model.getRequirementCategory(toFind);
+                    }
                 }
             }
+        } finally {
+            model.endBatch();
         }
 
         String codesMoved = StringUtil.joinStreamAsString(toMove.stream().sorted());
@@ -1,31 +1,108 @@
 package pwe.planner.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
 import static pwe.planner.model.Model.PREDICATE_SHOW_ALL_MODULES;
 
+import java.util.Objects;
+import java.util.OptionalInt;
+
+import pwe.planner.commons.core.index.Index;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Model;
+import pwe.planner.model.VersionedApplication.NoUndoableStateException;
 
 /**
- * Reverts the {@code model}'s application to its previous state.
+ * Reverts the {@code model}'s application to one of its previous states.
  */
 public class UndoCommand extends Command {
 
     public static final String COMMAND_WORD = "undo";
+    public static final String COMMAND_NUMBER_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reverts the application to a previous state.\n"
+            + "Parameters: [STEPS] (must be a positive integer, undoes 1 command if not given)\n"
+            + "or " + COMMAND_NUMBER_PREFIX + "COMMAND_NUMBER (undoes the command with this number, counting from 1 "
+            + "in the order commands were entered, and every command after it)\n"
+            + "Example: " + COMMAND_WORD + " 3\n"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_NUMBER_PREFIX + "5";
+
     public static final String MESSAGE_SUCCESS = "Undo success!";
     public static final String MESSAGE_FAILURE = "No more commands to undo!";
+    public static final String MESSAGE_INVALID_STEPS = "Number of commands to undo should be a positive integer";
+    public static final String MESSAGE_INVALID_COMMAND_NUMBER =
+            "Unable to undo to the state before command " + COMMAND_NUMBER_PREFIX + "%1$d!";
+
+    private final int steps;
+    private final Index commandNumber;
+
+    /**
+     * Creates an UndoCommand to undo the last command.
+     */
+    public UndoCommand() {
+        this(1);
+    }
+
+    /**
+     * Creates an UndoCommand to undo the last {@code steps} commands.
+     */
+    public UndoCommand(int steps) {
+        checkArgument(steps > 0, MESSAGE_INVALID_STEPS);
+
+        this.steps = steps;
+        commandNumber = null;
+    }
+
+    /**
+     * Creates an UndoCommand to undo the command at {@code commandNumber} in the command history, and every command
+     * after it.
+     */
+    public UndoCommand(Index commandNumber) {
+        requireNonNull(commandNumber);
+
+        steps = 0;
+        this.commandNumber = commandNumber;
+    }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        if (!model.canUndoApplication()) {
+        int stepsToUndo = steps;
+        if (commandNumber != null) {
+            requireNonNull(history);
+
+            OptionalInt undoSteps = history.getApplicationStateIdBefore(commandNumber)
+                    .map(model::getUndoStepsToApplicationState)
+                    .orElse(OptionalInt.empty());
+            if (!undoSteps.isPresent()) {
+                throw new CommandException(String.format(MESSAGE_INVALID_COMMAND_NUMBER,
+                        commandNumber.getOneBased()));
+            }
+            stepsToUndo = undoSteps.getAsInt();
+        }
+
+        if (stepsToUndo == 0 || !model.canUndoApplication(stepsToUndo)) {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.undoApplication();
+        try {
+            model.undoApplication(stepsToUndo);
+        } catch (NoUndoableStateException nuse) {
+            // the spilled states to undo could not be read back
+            throw new CommandException(MESSAGE_FAILURE, nuse);
+        }
         model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UndoCommand // instanceof handles nulls
+                && steps == ((UndoCommand) other).steps
+                && Objects.equals(commandNumber, ((UndoCommand) other).commandNumber)); // state check
+    }
 }
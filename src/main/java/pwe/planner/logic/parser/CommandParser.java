@@ -117,10 +117,10 @@ public class CommandParser {
             return new HelpCommand();
 
         case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
+            return new UndoCommandParser().parse(arguments);
 
         case RedoCommand.COMMAND_WORD:
-            return new RedoCommand();
+            return new RedoCommandParser().parse(arguments);
 
         case PlannerAddCommand.COMMAND_WORD:
             return new PlannerAddCommandParser().parse(arguments);
@@ -80,7 +80,7 @@ public class ParserUtil {
         if (!Credits.isValidCredits(trimmedCredits)) {
             throw new ParseException(Credits.MESSAGE_CONSTRAINTS);
         }
-        return new Credits(trimmedCredits);
+        return Credits.of(trimmedCredits);
     }
 
     /**
@@ -96,7 +96,7 @@ public class ParserUtil {
         if (!Code.isValidCode(trimmedCode)) {
             throw new ParseException(Code.MESSAGE_CONSTRAINTS);
         }
-        return new Code(trimmedCode);
+        return Code.of(trimmedCode);
     }
 
     /**
@@ -112,7 +112,7 @@ public class ParserUtil {
         if (!Year.isValidYear(trimmedYear)) {
             throw new ParseException(Year.MESSAGE_YEAR_CONSTRAINTS);
         }
-        return new Year(trimmedYear);
+        return Year.of(trimmedYear);
     }
 
     /**
@@ -128,7 +128,7 @@ public class ParserUtil {
         if (!Semester.isValidSemester(trimmedSemester)) {
             throw new ParseException(Semester.MESSAGE_SEMESTER_CONSTRAINTS);
         }
-        return new Semester(trimmedSemester);
+        return Semester.of(trimmedSemester);
     }
 
     /**
@@ -157,7 +157,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -0,0 +1,33 @@
+package pwe.planner.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.logic.commands.RedoCommand;
+import pwe.planner.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RedoCommand object
+ */
+public class RedoCommandParser implements Parser<RedoCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RedoCommand
+     * and returns a RedoCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RedoCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new RedoCommand();
+        }
+
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE));
+        }
+        return new RedoCommand(Integer.parseInt(trimmedArgs));
+    }
+}
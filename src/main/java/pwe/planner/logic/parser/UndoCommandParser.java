@@ -0,0 +1,43 @@
+package pwe.planner.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static pwe.planner.logic.commands.UndoCommand.COMMAND_NUMBER_PREFIX;
+import static pwe.planner.logic.parser.ParserUtil.parseIndex;
+
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.logic.commands.UndoCommand;
+import pwe.planner.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UndoCommand object
+ */
+public class UndoCommandParser implements Parser<UndoCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UndoCommand
+     * and returns an UndoCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UndoCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new UndoCommand();
+        }
+
+        if (trimmedArgs.startsWith(COMMAND_NUMBER_PREFIX)) {
+            try {
+                return new UndoCommand(parseIndex(trimmedArgs.substring(COMMAND_NUMBER_PREFIX.length())));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE), pe);
+            }
+        }
+
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE));
+        }
+        return new UndoCommand(Integer.parseInt(trimmedArgs));
+    }
+}
@@ -5,11 +5,15 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.util.InvalidationListenerManager;
 import pwe.planner.model.module.Code;
@@ -20,6 +24,7 @@ import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.planner.UniqueDegreePlannerList;
 import pwe.planner.model.requirement.RequirementCategory;
 import pwe.planner.model.requirement.UniqueRequirementCategoryList;
+import pwe.planner.model.tag.Tag;
 
 /**
  * Wraps all data at the application levels
@@ -31,6 +36,15 @@ public class Application implements ReadOnlyApplication {
     private final UniqueDegreePlannerList degreePlanners;
     private final UniqueRequirementCategoryList requirementCategories;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private final ApplicationChangeLog changeLog;
+
+    // Running credit totals of each degree planner and requirement category in the lists, keyed by identity
+    private final Map<DegreePlanner, Integer> degreePlannerCredits = new IdentityHashMap<>();
+    private final Map<RequirementCategory, Integer> requirementCategoryCredits = new IdentityHashMap<>();
+
+    // Number of open batches, and whether this application was modified since the outermost batch was opened
+    private int batchDepth;
+    private boolean isModifiedInBatch;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -43,6 +57,14 @@ public class Application implements ReadOnlyApplication {
         modules = new UniqueModuleList();
         degreePlanners = new UniqueDegreePlannerList();
         requirementCategories = new UniqueRequirementCategoryList();
+
+        changeLog = new ApplicationChangeLog(getModificationStamp());
+        getModuleList().addListener((ListChangeListener<Module>) change ->
+                logChange(change, changeLog::addModuleChange));
+        getDegreePlannerList().addListener((ListChangeListener<DegreePlanner>) change ->
+                logChange(change, changeLog::addDegreePlannerChange));
+        getRequirementCategoryList().addListener((ListChangeListener<RequirementCategory>) change ->
+                logChange(change, changeLog::addRequirementCategoryChange));
     }
 
     public Application() {}
@@ -63,9 +85,14 @@ public class Application implements ReadOnlyApplication {
     public void resetData(ReadOnlyApplication newData) {
         requireNonNull(newData);
 
-        setModules(newData.getModuleList());
-        setDegreePlanners(newData.getDegreePlannerList());
-        setRequirementCategories(newData.getRequirementCategoryList());
+        beginBatch();
+        try {
+            setModules(newData.getModuleList());
+            setDegreePlanners(newData.getDegreePlannerList());
+            setRequirementCategories(newData.getRequirementCategoryList());
+        } finally {
+            endBatch();
+        }
     }
 
     /**
@@ -91,6 +118,47 @@ public class Application implements ReadOnlyApplication {
         setRequirementCategories(editedRequirementCategories);
     }
 
+    /**
+     * Applies the list changes in {@code delta} to this {@code Application} without cascading them.
+     * {@code delta} must have been recorded from a state equal to the current state of this {@code Application}.
+     */
+    void applyDelta(ApplicationDelta delta) {
+        requireNonNull(delta);
+
+        beginBatch();
+        try {
+            Set<Code> affectedCodes = new HashSet<>();
+            for (ListChange<Module> change : delta.getModuleChanges()) {
+                modules.replaceRange(change.getFrom(), change.getRemovedTo(), change.getAdded());
+                change.getRemoved().forEach(module -> affectedCodes.add(module.getCode()));
+                change.getAdded().forEach(module -> affectedCodes.add(module.getCode()));
+            }
+
+            for (ListChange<DegreePlanner> change : delta.getDegreePlannerChanges()) {
+                // the removed elements of a change may be equal copies of the elements in the list, e.g. when read back
+                // from an undo history spill, so the credits are removed for the elements actually in the list
+                getDegreePlannerList().subList(change.getFrom(), change.getRemovedTo())
+                        .forEach(degreePlannerCredits::remove);
+                degreePlanners.replaceRange(change.getFrom(), change.getRemovedTo(), change.getAdded());
+                change.getAdded().forEach(degreePlanner ->
+                        degreePlannerCredits.put(degreePlanner, sumCredits(degreePlanner.getCodes())));
+            }
+
+            for (ListChange<RequirementCategory> change : delta.getRequirementCategoryChanges()) {
+                getRequirementCategoryList().subList(change.getFrom(), change.getRemovedTo())
+                        .forEach(requirementCategoryCredits::remove);
+                requirementCategories.replaceRange(change.getFrom(), change.getRemovedTo(), change.getAdded());
+                change.getAdded().forEach(requirementCategory -> requirementCategoryCredits.put(requirementCategory,
+                        sumCredits(requirementCategory.getCodeSet())));
+            }
+
+            affectedCodes.forEach(this::recomputeCredits);
+            indicateModified();
+        } finally {
+            endBatch();
+        }
+    }
+
     //// list overwrite operations
 
     /**
@@ -101,6 +169,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(modules);
 
         this.modules.setModules(modules);
+        recomputeAllCredits();
         indicateModified();
     }
 
@@ -112,6 +181,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(degreePlanners);
 
         this.degreePlanners.setDegreePlanners(degreePlanners);
+        recomputeAllCredits();
         indicateModified();
     }
 
@@ -123,6 +193,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(requirementCategories);
 
         this.requirementCategories.setRequirementCategories(requirementCategories);
+        recomputeAllCredits();
         indicateModified();
     }
 
@@ -146,13 +217,31 @@ public class Application implements ReadOnlyApplication {
         return modules.getModuleByCode(code);
     }
 
+    /**
+     * Returns the codes of all modules in the application which have the given {@code tag}.
+     */
+    public Set<Code> getModuleCodesByTag(Tag tag) {
+        requireNonNull(tag);
+
+        return modules.getCodesByTag(tag);
+    }
+
+    /**
+     * Returns the codes of all modules in the application whose name contains {@code word}, ignoring case.
+     */
+    public Set<Code> getModuleCodesByNameWord(String word) {
+        requireNonNull(word);
+
+        return modules.getCodesByNameWord(word);
+    }
+
     /**
      * Returns true if a {@code Module} with the specified {@code Code} exists in the application.
      */
     public boolean hasModuleCode(Code code) {
         requireNonNull(code);
 
-        return modules.asUnmodifiableObservableList().stream().anyMatch((module) -> module.getCode().equals(code));
+        return modules.containsCode(code);
     }
 
     /**
@@ -163,6 +252,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(moduleToAdd);
 
         modules.add(moduleToAdd);
+        recomputeCredits(moduleToAdd.getCode());
         indicateModified();
     }
 
@@ -175,6 +265,8 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedModule);
 
         modules.setModule(target, editedModule);
+        recomputeCredits(target.getCode());
+        recomputeCredits(editedModule.getCode());
     }
 
     /**
@@ -185,67 +277,73 @@ public class Application implements ReadOnlyApplication {
     public void editModule(Module target, Module editedModule) {
         requireAllNonNull(target, editedModule);
 
-        modules.setModule(target, editedModule);
-        if (!target.getCode().equals(editedModule.getCode())) {
-            cascadeEditedCodeInDegreePlanners(target.getCode(), editedModule.getCode());
-            cascadeEditedCodeInRequirementCategories(target.getCode(), editedModule.getCode());
-        }
+        beginBatch();
+        try {
+            modules.setModule(target, editedModule);
+            if (!target.getCode().equals(editedModule.getCode())) {
+                cascadeEditedCodeInDegreePlanners(target.getCode(), editedModule.getCode());
+                cascadeEditedCodeInRequirementCategories(target.getCode(), editedModule.getCode());
+            }
+            recomputeCredits(editedModule.getCode());
 
-        indicateModified();
+            indicateModified();
+        } finally {
+            endBatch();
+        }
     }
 
     /**
-     * Cascades the edited module code by updating {@code UniqueDegreePlannerList} accordingly
+     * Cascades the edited module code by updating {@code UniqueDegreePlannerList} accordingly.
+     * Only the degree planner containing the code, found through the code index, is updated.
      * @param codeToEdit module code to edit/find
      * @param editedCode module code to replace with
      */
     private void cascadeEditedCodeInDegreePlanners(Code codeToEdit, Code editedCode) {
         requireAllNonNull(codeToEdit, editedCode);
 
-        ObservableList<DegreePlanner> degreePlanners = getDegreePlannerList();
-
-        for (DegreePlanner degreePlanner : degreePlanners) {
-            if (degreePlanner.getCodes().contains(codeToEdit)) {
-                Set<Code> editedDegreePlannerCodes = new HashSet<>(degreePlanner.getCodes());
-                editedDegreePlannerCodes.remove(codeToEdit);
-                editedDegreePlannerCodes.add(editedCode);
-
-                DegreePlanner editedDegreePlanner = new DegreePlanner(
-                        degreePlanner.getYear(),
-                        degreePlanner.getSemester(),
-                        editedDegreePlannerCodes
-                );
-
-                setDegreePlanner(degreePlanner, editedDegreePlanner);
-            }
+        DegreePlanner degreePlanner = degreePlanners.getDegreePlannerByCode(codeToEdit);
+        if (degreePlanner == null) {
+            return;
         }
+
+        Set<Code> editedDegreePlannerCodes = new HashSet<>(degreePlanner.getCodes());
+        editedDegreePlannerCodes.remove(codeToEdit);
+        editedDegreePlannerCodes.add(editedCode);
+
+        DegreePlanner editedDegreePlanner = new DegreePlanner(
+                degreePlanner.getYear(),
+                degreePlanner.getSemester(),
+                editedDegreePlannerCodes
+        );
+
+        setDegreePlanner(degreePlanner, editedDegreePlanner);
     }
 
     /**
-     * Cascades the edited module code by updating {@code UniqueRequirementCategoryList} accordingly
+     * Cascades the edited module code by updating {@code UniqueRequirementCategoryList} accordingly.
+     * Only the requirement category containing the code, found through the code index, is updated.
      * @param codeToEdit module code to edit/find
      * @param editedCode module code to replace with
      */
     private void cascadeEditedCodeInRequirementCategories(Code codeToEdit, Code editedCode) {
         requireAllNonNull(codeToEdit, editedCode);
 
-        ObservableList<RequirementCategory> requirementCategories = getRequirementCategoryList();
-
-        for (RequirementCategory requirementCategory : requirementCategories) {
-            if (requirementCategory.getCodeSet().contains(codeToEdit)) {
-                Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
-                editedCodes.remove(codeToEdit);
-                editedCodes.add(editedCode);
-
-                RequirementCategory editedRequirementCategory = new RequirementCategory(
-                        requirementCategory.getName(),
-                        requirementCategory.getCredits(),
-                        editedCodes
-                );
-
-                setRequirementCategory(requirementCategory, editedRequirementCategory);
-            }
+        RequirementCategory requirementCategory = requirementCategories.getRequirementCategoryByCode(codeToEdit);
+        if (requirementCategory == null) {
+            return;
         }
+
+        Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
+        editedCodes.remove(codeToEdit);
+        editedCodes.add(editedCode);
+
+        RequirementCategory editedRequirementCategory = new RequirementCategory(
+                requirementCategory.getName(),
+                requirementCategory.getCredits(),
+                editedCodes
+        );
+
+        setRequirementCategory(requirementCategory, editedRequirementCategory);
     }
 
     /**
@@ -255,58 +353,65 @@ public class Application implements ReadOnlyApplication {
     public void removeModule(Module moduleToDelete) {
         requireNonNull(moduleToDelete);
 
-        modules.remove(moduleToDelete);
-        cascadeDeleteCodeToDegreePlanners(moduleToDelete.getCode());
-        cascadeDeleteCodeToRequirementCategories(moduleToDelete.getCode());
-        indicateModified();
+        beginBatch();
+        try {
+            modules.remove(moduleToDelete);
+            cascadeDeleteCodeToDegreePlanners(moduleToDelete.getCode());
+            cascadeDeleteCodeToRequirementCategories(moduleToDelete.getCode());
+            indicateModified();
+        } finally {
+            endBatch();
+        }
     }
 
     /**
-     * Cascades the deleted module code by removing it from {@code UniqueDegreePlannerList} accordingly
+     * Cascades the deleted module code by removing it from {@code UniqueDegreePlannerList} accordingly.
+     * Only the degree planner containing the code, found through the code index, is updated.
      * @param codeToDelete module code to delete
      */
     private void cascadeDeleteCodeToDegreePlanners(Code codeToDelete) {
         assert codeToDelete != null;
 
-        ObservableList<DegreePlanner> degreePlanners = getDegreePlannerList();
-        for (DegreePlanner degreePlanner : degreePlanners) {
-            if (degreePlanner.getCodes().contains(codeToDelete)) {
-                Set<Code> editedCodes = new HashSet<>(degreePlanner.getCodes());
-                editedCodes.remove(codeToDelete);
+        DegreePlanner degreePlanner = degreePlanners.getDegreePlannerByCode(codeToDelete);
+        if (degreePlanner == null) {
+            return;
+        }
 
-                DegreePlanner editedDegreePlanner = new DegreePlanner(
-                        degreePlanner.getYear(),
-                        degreePlanner.getSemester(),
-                        editedCodes
-                );
+        Set<Code> editedCodes = new HashSet<>(degreePlanner.getCodes());
+        editedCodes.remove(codeToDelete);
 
-                setDegreePlanner(degreePlanner, editedDegreePlanner);
-            }
-        }
+        DegreePlanner editedDegreePlanner = new DegreePlanner(
+                degreePlanner.getYear(),
+                degreePlanner.getSemester(),
+                editedCodes
+        );
+
+        setDegreePlanner(degreePlanner, editedDegreePlanner);
     }
 
     /**
-     * Cascades the deleted module code by removing it from {@code UniqueRequirementCategoryList} accordingly
+     * Cascades the deleted module code by removing it from {@code UniqueRequirementCategoryList} accordingly.
+     * Only the requirement category containing the code, found through the code index, is updated.
      * @param codeToDelete module code to delete
      */
     private void cascadeDeleteCodeToRequirementCategories(Code codeToDelete) {
         assert codeToDelete != null;
 
-        ObservableList<RequirementCategory> requirementCategories = getRequirementCategoryList();
-        for (RequirementCategory requirementCategory : requirementCategories) {
-            if (requirementCategory.getCodeSet().contains(codeToDelete)) {
-                Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
-                editedCodes.remove(codeToDelete);
+        RequirementCategory requirementCategory = requirementCategories.getRequirementCategoryByCode(codeToDelete);
+        if (requirementCategory == null) {
+            return;
+        }
 
-                RequirementCategory editedRequirementCategory = new RequirementCategory(
-                        requirementCategory.getName(),
-                        requirementCategory.getCredits(),
-                        editedCodes
-                );
+        Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
+        editedCodes.remove(codeToDelete);
 
-                setRequirementCategory(requirementCategory, editedRequirementCategory);
-            }
-        }
+        RequirementCategory editedRequirementCategory = new RequirementCategory(
+                requirementCategory.getName(),
+                requirementCategory.getCredits(),
+                editedCodes
+        );
+
+        setRequirementCategory(requirementCategory, editedRequirementCategory);
     }
 
     //// planner-level operations
@@ -338,6 +443,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(degreePlanner);
 
         degreePlanners.add(degreePlanner);
+        degreePlannerCredits.put(degreePlanner, sumCredits(degreePlanner.getCodes()));
     }
 
     /**
@@ -350,6 +456,8 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedDegreePlanner);
 
         degreePlanners.setDegreePlanner(target, editedDegreePlanner);
+        degreePlannerCredits.remove(target);
+        degreePlannerCredits.put(editedDegreePlanner, sumCredits(editedDegreePlanner.getCodes()));
     }
 
     /**
@@ -360,31 +468,32 @@ public class Application implements ReadOnlyApplication {
     public void moveModuleBetweenPlanner(DegreePlanner sourcePlanner, DegreePlanner destinationPlanner, Code code) {
         requireAllNonNull(sourcePlanner, destinationPlanner, code);
 
-        Set<Code> codesToMove = new HashSet<>(modules.getModuleByCode(code).getCorequisites());
-        codesToMove.add(code);
-        Set<Code> editedDestinationPlannerCodes = new HashSet<>(destinationPlanner.getCodes());
+        beginBatch();
+        try {
+            Set<Code> codesToMove = modules.getCorequisiteGroup(code);
+            Set<Code> editedDestinationPlannerCodes = new HashSet<>(destinationPlanner.getCodes());
 
-        for (Code codeToMove : codesToMove) {
-            DegreePlanner sourceDegreePlanner = degreePlanners.getDegreePlannerByCode(codeToMove);
-            Set<Code> editedSourceDegreePlanner = new HashSet<>(sourceDegreePlanner.getCodes());
-            editedSourceDegreePlanner.remove(codeToMove);
-            DegreePlanner editedSourcePlanner =
-                    new DegreePlanner(sourceDegreePlanner.getYear(), sourceDegreePlanner.getSemester(),
-                            editedSourceDegreePlanner);
+            for (Code codeToMove : codesToMove) {
+                DegreePlanner sourceDegreePlanner = degreePlanners.getDegreePlannerByCode(codeToMove);
+                Set<Code> editedSourceDegreePlanner = new HashSet<>(sourceDegreePlanner.getCodes());
+                editedSourceDegreePlanner.remove(codeToMove);
+                DegreePlanner editedSourcePlanner =
+                        new DegreePlanner(sourceDegreePlanner.getYear(), sourceDegreePlanner.getSemester(),
+                                editedSourceDegreePlanner);
 
-            setDegreePlanner(sourceDegreePlanner, editedSourcePlanner);
-        }
+                setDegreePlanner(sourceDegreePlanner, editedSourcePlanner);
+            }
 
-        editedDestinationPlannerCodes.addAll(codesToMove);
-        DegreePlanner editedDestinationPlanner = new DegreePlanner(destinationPlanner.getYear(),
-                destinationPlanner.getSemester(), editedDestinationPlannerCodes);
+            editedDestinationPlannerCodes.addAll(codesToMove);
+            DegreePlanner editedDestinationPlanner = new DegreePlanner(destinationPlanner.getYear(),
+                    destinationPlanner.getSemester(), editedDestinationPlannerCodes);
 
-        // Search for the destinationPlanner is necessary as code could have been removed from destinationPlanner
-        DegreePlanner targetDestinationPlanner = getDegreePlannerList().stream()
-                .filter(destinationPlanner::isSameDegreePlanner)
-                .findFirst()
-                .orElse(null);
-        setDegreePlanner(targetDestinationPlanner, editedDestinationPlanner);
+            // Search for the destinationPlanner is necessary as code could have been removed from destinationPlanner
+            DegreePlanner targetDestinationPlanner = degreePlanners.getDegreePlanner(destinationPlanner);
+            setDegreePlanner(targetDestinationPlanner, editedDestinationPlanner);
+        } finally {
+            endBatch();
+        }
     }
 
     /**
@@ -395,6 +504,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(key);
 
         degreePlanners.remove(key);
+        degreePlannerCredits.remove(key);
     }
 
     //// requirement-level operations
@@ -419,6 +529,15 @@ public class Application implements ReadOnlyApplication {
         return requirementCategories.contains(requirementCategory);
     }
 
+    /**
+     * Returns the requirement category which contains the given {@code code}, otherwise returns null.
+     */
+    public RequirementCategory getRequirementCategoryByCode(Code code) {
+        requireNonNull(code);
+
+        return requirementCategories.getRequirementCategoryByCode(code);
+    }
+
     /**
      * Returns true if an requirement with the same identity as {@code requirement} exists in the
      * requirement.
@@ -437,6 +556,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(requirementCategory);
 
         requirementCategories.add(requirementCategory);
+        requirementCategoryCredits.put(requirementCategory, sumCredits(requirementCategory.getCodeSet()));
     }
 
     /**
@@ -450,6 +570,8 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedRequirementCategory);
 
         requirementCategories.setRequirementCategory(target, editedRequirementCategory);
+        requirementCategoryCredits.remove(target);
+        requirementCategoryCredits.put(editedRequirementCategory, sumCredits(editedRequirementCategory.getCodeSet()));
     }
 
     /**
@@ -460,6 +582,114 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(key);
 
         requirementCategories.remove(key);
+        requirementCategoryCredits.remove(key);
+    }
+
+    //// credit total operations
+
+    @Override
+    public int getTotalCredits(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        Integer totalCredits = degreePlannerCredits.get(degreePlanner);
+        return totalCredits != null ? totalCredits : sumCredits(degreePlanner.getCodes());
+    }
+
+    @Override
+    public int getTotalCredits(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        Integer totalCredits = requirementCategoryCredits.get(requirementCategory);
+        return totalCredits != null ? totalCredits : sumCredits(requirementCategory.getCodeSet());
+    }
+
+    /**
+     * Returns the total credits of the modules with the given {@code codes}.
+     * Codes without a corresponding module in the application do not contribute any credits.
+     */
+    private int sumCredits(Set<Code> codes) {
+        assert codes != null;
+
+        int totalCredits = 0;
+        for (Code code : codes) {
+            Module module = modules.getModuleByCode(code);
+            if (module != null) {
+                totalCredits += module.getCredits().getIntValue();
+            }
+        }
+        return totalCredits;
+    }
+
+    /**
+     * Recomputes the credit totals of the degree planner and requirement category containing {@code code}.
+     */
+    private void recomputeCredits(Code code) {
+        assert code != null;
+
+        DegreePlanner degreePlanner = degreePlanners.getDegreePlannerByCode(code);
+        if (degreePlanner != null) {
+            degreePlannerCredits.put(degreePlanner, sumCredits(degreePlanner.getCodes()));
+        }
+
+        RequirementCategory requirementCategory = requirementCategories.getRequirementCategoryByCode(code);
+        if (requirementCategory != null) {
+            requirementCategoryCredits.put(requirementCategory, sumCredits(requirementCategory.getCodeSet()));
+        }
+    }
+
+    /**
+     * Recomputes the credit totals of every degree planner and requirement category.
+     */
+    private void recomputeAllCredits() {
+        degreePlannerCredits.clear();
+        for (DegreePlanner degreePlanner : degreePlanners) {
+            degreePlannerCredits.put(degreePlanner, sumCredits(degreePlanner.getCodes()));
+        }
+
+        requirementCategoryCredits.clear();
+        for (RequirementCategory requirementCategory : requirementCategories) {
+            requirementCategoryCredits.put(requirementCategory, sumCredits(requirementCategory.getCodeSet()));
+        }
+    }
+
+    //// change tracking
+
+    @Override
+    public long getModificationStamp() {
+        return Math.max(getModuleListModificationStamp(),
+                Math.max(getDegreePlannerListModificationStamp(), getRequirementCategoryListModificationStamp()));
+    }
+
+    @Override
+    public ApplicationChangeLog getRecentChanges() {
+        return new ApplicationChangeLog(changeLog);
+    }
+
+    /**
+     * Logs each change in {@code change} with {@code recorder}, together with the modification stamp of the version of
+     * this {@code Application} it resulted in.
+     */
+    private <E> void logChange(ListChangeListener.Change<? extends E> change,
+            BiConsumer<Long, ListChange<E>> recorder) {
+        while (change.next()) {
+            recorder.accept(getModificationStamp(),
+                    new ListChange<>(change.getFrom(), change.getRemoved(), change.getAddedSubList()));
+        }
+    }
+
+    @Override
+    public long getModuleListModificationStamp() {
+        return modules.getModificationStamp();
+    }
+
+    @Override
+    public long getDegreePlannerListModificationStamp() {
+        return degreePlanners.getModificationStamp();
+    }
+
+    @Override
+    public long getRequirementCategoryListModificationStamp() {
+        return requirementCategories.getModificationStamp();
     }
 
     //// listener methods
@@ -478,10 +708,66 @@ public class Application implements ReadOnlyApplication {
         invalidationListenerManager.removeListener(listener);
     }
 
+    /**
+     * Starts a batch of modifications to this {@code Application}. Every call must be matched by a call to
+     * {@link #endBatch()}, and batches may be nested.
+     *
+     * Until the outermost batch ends, the changes to each list are accumulated rather than published, and listeners
+     * are not notified of modifications. When it ends, the changes to each list are published as a single change,
+     * and listeners are notified once if this {@code Application} was modified.
+     */
+    public void beginBatch() {
+        if (batchDepth++ > 0) {
+            return;
+        }
+
+        modules.beginBatch();
+        degreePlanners.beginBatch();
+        requirementCategories.beginBatch();
+    }
+
+    /**
+     * Ends a batch of modifications started by {@link #beginBatch()}.
+     *
+     * @throws IllegalStateException if there is no batch to end.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("There is no batch of modifications to end.");
+        }
+        if (--batchDepth > 0) {
+            return;
+        }
+
+        try {
+            modules.endBatch();
+            degreePlanners.endBatch();
+            requirementCategories.endBatch();
+        } finally {
+            if (isModifiedInBatch) {
+                isModifiedInBatch = false;
+                indicateModified();
+            }
+        }
+    }
+
+    /**
+     * Returns true if a batch of modifications is in progress.
+     */
+    protected boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
     /**
      * Notifies listeners that the application has been modified.
+     * Inside a batch, the notification is deferred until the outermost batch ends.
      */
     protected void indicateModified() {
+        if (isInBatch()) {
+            isModifiedInBatch = true;
+            return;
+        }
+
         invalidationListenerManager.callListeners(this);
     }
 
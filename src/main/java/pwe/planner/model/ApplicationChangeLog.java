@@ -0,0 +1,120 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * The most recent changes made to the lists of an application, each with the modification stamp of the version of the
+ * application it resulted in.
+ * Only the most recent changes, which hold at most {@code CHANGED_ELEMENT_LIMIT} elements in total, are kept. Older
+ * changes are discarded, so the changes since an older version of the application are no longer known.
+ */
+public class ApplicationChangeLog {
+
+    static final int CHANGED_ELEMENT_LIMIT = 1024;
+
+    private final Deque<Entry> entries;
+    // the modification stamp of the version of the application before the oldest change kept
+    private long baseStamp;
+    private int changedElementCount;
+
+    /**
+     * Creates an empty {@code ApplicationChangeLog} of an application whose current version has the modification stamp
+     * {@code stamp}.
+     */
+    public ApplicationChangeLog(long stamp) {
+        entries = new ArrayDeque<>();
+        baseStamp = stamp;
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}, which does not change with it.
+     */
+    public ApplicationChangeLog(ApplicationChangeLog toBeCopied) {
+        requireNonNull(toBeCopied);
+
+        entries = new ArrayDeque<>(toBeCopied.entries);
+        baseStamp = toBeCopied.baseStamp;
+        changedElementCount = toBeCopied.changedElementCount;
+    }
+
+    void addModuleChange(long stamp, ListChange<Module> change) {
+        addEntry(stamp, change, delta -> delta.addModuleChange(change));
+    }
+
+    void addDegreePlannerChange(long stamp, ListChange<DegreePlanner> change) {
+        addEntry(stamp, change, delta -> delta.addDegreePlannerChange(change));
+    }
+
+    void addRequirementCategoryChange(long stamp, ListChange<RequirementCategory> change) {
+        addEntry(stamp, change, delta -> delta.addRequirementCategoryChange(change));
+    }
+
+    /**
+     * Adds {@code change}, which resulted in the version of the application with the modification stamp
+     * {@code stamp}, as the most recent change. The oldest changes are discarded while the changes hold more than
+     * {@code CHANGED_ELEMENT_LIMIT} elements.
+     */
+    private void addEntry(long stamp, ListChange<?> change, Consumer<ApplicationDelta> recorder) {
+        requireNonNull(change);
+        assert stamp >= getLatestStamp() : "Changes should be added in the order they were made";
+
+        Entry entry = new Entry(stamp, change.getRemoved().size() + change.getAdded().size(), recorder);
+        entries.addLast(entry);
+        changedElementCount += entry.changedElementCount;
+        while (changedElementCount > CHANGED_ELEMENT_LIMIT) {
+            Entry discardedEntry = entries.removeFirst();
+            changedElementCount -= discardedEntry.changedElementCount;
+            baseStamp = discardedEntry.stamp;
+        }
+    }
+
+    /**
+     * Returns the modification stamp of the version of the application after the most recent change.
+     */
+    private long getLatestStamp() {
+        return entries.isEmpty() ? baseStamp : entries.getLast().stamp;
+    }
+
+    /**
+     * Returns the changes made since the version of the application with the modification stamp {@code stamp}, in the
+     * order they were made, or an empty {@code Optional} if that version is not the current version of the
+     * application or one of the versions whose later changes are all kept.
+     */
+    public Optional<ApplicationDelta> getChangesSince(long stamp) {
+        boolean isKnownVersion = stamp == baseStamp;
+        ApplicationDelta delta = new ApplicationDelta();
+        for (Entry entry : entries) {
+            if (entry.stamp > stamp) {
+                entry.recorder.accept(delta);
+            } else if (entry.stamp == stamp) {
+                isKnownVersion = true;
+            }
+        }
+        return isKnownVersion ? Optional.of(delta) : Optional.empty();
+    }
+
+    /**
+     * A change, and the modification stamp of the version of the application it resulted in.
+     */
+    private static class Entry {
+        private final long stamp;
+        private final int changedElementCount;
+        // adds the change to a delta
+        private final Consumer<ApplicationDelta> recorder;
+
+        private Entry(long stamp, int changedElementCount, Consumer<ApplicationDelta> recorder) {
+            this.stamp = stamp;
+            this.changedElementCount = changedElementCount;
+            this.recorder = recorder;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * The changes made to the lists of an application between two of its states, in the order they were made.
+ */
+public class ApplicationDelta {
+
+    // Rough estimates of the memory used by the objects held in a delta, in bytes. They were not measured: they
+    // approximate the object headers, fields and small collections of each element on a 64-bit JVM with compressed
+    // references, and ignore that elements are shared. Byte limits checked against them are approximate too.
+    private static final long ESTIMATED_CHANGE_BYTES = 64;
+    private static final long ESTIMATED_MODULE_BYTES = 400;
+    private static final long ESTIMATED_DEGREE_PLANNER_BYTES = 120;
+    private static final long ESTIMATED_REQUIREMENT_CATEGORY_BYTES = 160;
+    private static final long ESTIMATED_SET_ELEMENT_BYTES = 48;
+
+    private final List<ListChange<Module>> moduleChanges = new ArrayList<>();
+    private final List<ListChange<DegreePlanner>> degreePlannerChanges = new ArrayList<>();
+    private final List<ListChange<RequirementCategory>> requirementCategoryChanges = new ArrayList<>();
+
+    public void addModuleChange(ListChange<Module> change) {
+        requireNonNull(change);
+
+        moduleChanges.add(change);
+    }
+
+    public void addDegreePlannerChange(ListChange<DegreePlanner> change) {
+        requireNonNull(change);
+
+        degreePlannerChanges.add(change);
+    }
+
+    public void addRequirementCategoryChange(ListChange<RequirementCategory> change) {
+        requireNonNull(change);
+
+        requirementCategoryChanges.add(change);
+    }
+
+    public List<ListChange<Module>> getModuleChanges() {
+        return Collections.unmodifiableList(moduleChanges);
+    }
+
+    public List<ListChange<DegreePlanner>> getDegreePlannerChanges() {
+        return Collections.unmodifiableList(degreePlannerChanges);
+    }
+
+    public List<ListChange<RequirementCategory>> getRequirementCategoryChanges() {
+        return Collections.unmodifiableList(requirementCategoryChanges);
+    }
+
+    /**
+     * Adds the changes in {@code other} after the changes in this delta.
+     */
+    void append(ApplicationDelta other) {
+        requireNonNull(other);
+
+        moduleChanges.addAll(other.moduleChanges);
+        degreePlannerChanges.addAll(other.degreePlannerChanges);
+        requirementCategoryChanges.addAll(other.requirementCategoryChanges);
+    }
+
+    /**
+     * Returns a rough estimate of the memory, in bytes, used by the changes in this delta.
+     * Elements are counted in full even if they are shared with the application or other deltas, so this is meant
+     * for comparing deltas against each other and against a budget rather than as a measurement.
+     */
+    long estimateBytes() {
+        long estimatedBytes = 0;
+        for (ListChange<Module> change : moduleChanges) {
+            estimatedBytes += ESTIMATED_CHANGE_BYTES;
+            for (Module module : concat(change.getRemoved(), change.getAdded())) {
+                int setElementCount = module.getSemesters().size() + module.getCorequisites().size()
+                        + module.getTags().size();
+                estimatedBytes += ESTIMATED_MODULE_BYTES + setElementCount * ESTIMATED_SET_ELEMENT_BYTES;
+            }
+        }
+        for (ListChange<DegreePlanner> change : degreePlannerChanges) {
+            estimatedBytes += ESTIMATED_CHANGE_BYTES;
+            for (DegreePlanner degreePlanner : concat(change.getRemoved(), change.getAdded())) {
+                estimatedBytes += ESTIMATED_DEGREE_PLANNER_BYTES
+                        + degreePlanner.getCodes().size() * ESTIMATED_SET_ELEMENT_BYTES;
+            }
+        }
+        for (ListChange<RequirementCategory> change : requirementCategoryChanges) {
+            estimatedBytes += ESTIMATED_CHANGE_BYTES;
+            for (RequirementCategory requirementCategory : concat(change.getRemoved(), change.getAdded())) {
+                estimatedBytes += ESTIMATED_REQUIREMENT_CATEGORY_BYTES
+                        + requirementCategory.getCodeSet().size() * ESTIMATED_SET_ELEMENT_BYTES;
+            }
+        }
+        return estimatedBytes;
+    }
+
+    /**
+     * Returns a list of the elements in {@code first} followed by the elements in {@code second}.
+     */
+    private static <E> List<E> concat(List<E> first, List<E> second) {
+        List<E> elements = new ArrayList<>(first);
+        elements.addAll(second);
+        return elements;
+    }
+
+    /**
+     * Returns the delta which reverts this delta, i.e. the inverse of every change in reverse order.
+     */
+    ApplicationDelta inverse() {
+        ApplicationDelta inverse = new ApplicationDelta();
+        inverse.moduleChanges.addAll(invert(moduleChanges));
+        inverse.degreePlannerChanges.addAll(invert(degreePlannerChanges));
+        inverse.requirementCategoryChanges.addAll(invert(requirementCategoryChanges));
+        return inverse;
+    }
+
+    /**
+     * Returns the inverse of each change in {@code changes}, in reverse order.
+     */
+    private static <E> List<ListChange<E>> invert(List<ListChange<E>> changes) {
+        List<ListChange<E>> inverseChanges = new ArrayList<>();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            inverseChanges.add(changes.get(i).inverse());
+        }
+        return inverseChanges;
+    }
+
+    /**
+     * Returns a delta with the same effect as this delta, in which each run of consecutive changes that keep the
+     * size of a list is replaced by its net effect: one change for each element that ends up different, in the
+     * order of the elements.
+     * Deltas that make the same replacements in a different order, or that replace elements with equal ones,
+     * therefore have equal normalized deltas.
+     */
+    ApplicationDelta normalized() {
+        ApplicationDelta normalized = new ApplicationDelta();
+        normalized.moduleChanges.addAll(normalize(moduleChanges));
+        normalized.degreePlannerChanges.addAll(normalize(degreePlannerChanges));
+        normalized.requirementCategoryChanges.addAll(normalize(requirementCategoryChanges));
+        return normalized;
+    }
+
+    /**
+     * Returns {@code changes} with each run of consecutive changes that keep the size of the list replaced by its
+     * net effect.
+     */
+    private static <E> List<ListChange<E>> normalize(List<ListChange<E>> changes) {
+        List<ListChange<E>> normalizedChanges = new ArrayList<>();
+        // the element at each index replaced in the current run, before and after the run
+        SortedMap<Integer, E> elementsBeforeRun = new TreeMap<>();
+        Map<Integer, E> elementsAfterRun = new HashMap<>();
+        for (ListChange<E> change : changes) {
+            if (change.getRemoved().size() != change.getAdded().size()) {
+                addNetReplacements(normalizedChanges, elementsBeforeRun, elementsAfterRun);
+                normalizedChanges.add(change);
+                continue;
+            }
+
+            for (int i = 0; i < change.getAdded().size(); i++) {
+                elementsBeforeRun.putIfAbsent(change.getFrom() + i, change.getRemoved().get(i));
+                elementsAfterRun.put(change.getFrom() + i, change.getAdded().get(i));
+            }
+        }
+        addNetReplacements(normalizedChanges, elementsBeforeRun, elementsAfterRun);
+        return normalizedChanges;
+    }
+
+    /**
+     * Adds a change to {@code changes} for each index at which the element in {@code elementsAfterRun} differs from
+     * the element in {@code elementsBeforeRun}, in the order of the indexes, then clears both maps.
+     */
+    private static <E> void addNetReplacements(List<ListChange<E>> changes, SortedMap<Integer, E> elementsBeforeRun,
+            Map<Integer, E> elementsAfterRun) {
+        elementsBeforeRun.forEach((index, elementBeforeRun) -> {
+            E elementAfterRun = elementsAfterRun.get(index);
+            if (!elementBeforeRun.equals(elementAfterRun)) {
+                changes.add(new ListChange<>(index, Collections.singletonList(elementBeforeRun),
+                        Collections.singletonList(elementAfterRun)));
+            }
+        });
+        elementsBeforeRun.clear();
+        elementsAfterRun.clear();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ApplicationDelta // instanceof handles nulls
+                && moduleChanges.equals(((ApplicationDelta) other).moduleChanges)
+                && degreePlannerChanges.equals(((ApplicationDelta) other).degreePlannerChanges)
+                && requirementCategoryChanges.equals(((ApplicationDelta) other).requirementCategoryChanges));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(moduleChanges, degreePlannerChanges, requirementCategoryChanges);
+    }
+}
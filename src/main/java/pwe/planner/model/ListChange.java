@@ -0,0 +1,78 @@
+package pwe.planner.model;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a single change made to a list: the elements in {@code removed} starting at index {@code from} were
+ * replaced with the elements in {@code added}.
+ * Guarantees: immutable.
+ */
+public class ListChange<E> {
+
+    private final int from;
+    private final List<E> removed;
+    private final List<E> added;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ListChange(int from, List<? extends E> removed, List<? extends E> added) {
+        requireAllNonNull(removed, added);
+
+        this.from = from;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the index after the last element that was removed, in the list before the change.
+     */
+    int getRemovedTo() {
+        return from + removed.size();
+    }
+
+    public List<E> getRemoved() {
+        return removed;
+    }
+
+    public List<E> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the change which reverts this change.
+     */
+    ListChange<E> inverse() {
+        return new ListChange<>(from, added, removed);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ListChange)) {
+            return false;
+        }
+
+        ListChange<?> otherListChange = (ListChange<?>) other;
+        return from == otherListChange.from
+                && removed.equals(otherListChange.removed)
+                && added.equals(otherListChange.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removed, added);
+    }
+}
@@ -1,6 +1,8 @@
 package pwe.planner.model;
 
 import java.nio.file.Path;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -11,6 +13,7 @@ import pwe.planner.model.module.Module;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -93,6 +96,18 @@ public interface Model {
      */
     void resetPlanner();
 
+    /**
+     * Starts a batch of modifications to the application. Every call must be matched by a call to {@link #endBatch()}.
+     * The changes made during the batch are published as a single change per list, and the application's listeners
+     * are notified once, when the outermost batch ends.
+     */
+    void beginBatch();
+
+    /**
+     * Ends a batch of modifications started by {@link #beginBatch()}.
+     */
+    void endBatch();
+
     /**
      * Returns true if a module with the same identity as {@code module} exists in the application.
      */
@@ -103,6 +118,16 @@ public interface Model {
      */
     Module getModuleByCode(Code code);
 
+    /**
+     * Returns the codes of all modules in the application which have the given {@code tag}.
+     */
+    Set<Code> getModuleCodesByTag(Tag tag);
+
+    /**
+     * Returns the codes of all modules in the application whose name contains {@code word}, ignoring case.
+     */
+    Set<Code> getModuleCodesByNameWord(String word);
+
     /**
      * Returns true if a {@code Module} with the specified {@code Code} exists in the application.
      */
@@ -165,6 +190,55 @@ public interface Model {
      */
     void redoApplication();
 
+    /**
+     * Returns true if the model has at least {@code steps} previous application states to restore.
+     */
+    boolean canUndoApplication(int steps);
+
+    /**
+     * Returns true if the model has at least {@code steps} undone application states to restore.
+     */
+    boolean canRedoApplication(int steps);
+
+    /**
+     * Restores the model's application to the state {@code steps} states before its current state, in one change.
+     * @throws VersionedApplication.NoUndoableStateException if the states to restore cannot be read back, even
+     *     though {@code canUndoApplication(steps)} returned true.
+     */
+    void undoApplication(int steps);
+
+    /**
+     * Restores the model's application to the undone state {@code steps} states after its current state, in one
+     * change.
+     */
+    void redoApplication(int steps);
+
+    /**
+     * Returns the id of the model's current saved application state.
+     */
+    long getApplicationStateId();
+
+    /**
+     * Returns the number of states to undo to restore the saved application state with the id {@code stateId}, or an
+     * empty {@code OptionalInt} if that state cannot be restored by undoing.
+     */
+    OptionalInt getUndoStepsToApplicationState(long stateId);
+
+    /**
+     * Returns the number of saved application states, excluding the current one, that can be undone or redone.
+     */
+    int getUndoHistorySize();
+
+    /**
+     * Returns the number of saved application states that are written to disk instead of kept in memory.
+     */
+    int getSpilledUndoHistorySize();
+
+    /**
+     * Returns a rough estimate of the memory, in bytes, used by the saved application states kept in memory.
+     */
+    long getEstimatedUndoHistoryBytes();
+
     /**
      * Saves the current application state for undo/redo.
      */
@@ -257,6 +331,11 @@ public interface Model {
      */
     RequirementCategory getRequirementCategory(Name requirementCategoryName);
 
+    /**
+     * Returns the requirement category which contains the given {@code code}, otherwise returns null.
+     */
+    RequirementCategory getRequirementCategoryByCode(Code code);
+
     /**
      * Adds the given requirement.
      * {@code requirement} must not already exist in the requirementCategoryList.
@@ -5,6 +5,8 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -21,6 +23,7 @@ import pwe.planner.model.module.Name;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the application data.
@@ -49,6 +52,8 @@ public class ModelManager implements Model {
 
         versionedApplication = new VersionedApplication(application);
         this.userPrefs = new UserPrefs(userPrefs);
+        versionedApplication.setUndoHistoryLimits(this.userPrefs.getUndoHistoryStateLimit(),
+                this.userPrefs.getUndoHistoryByteLimit());
 
         filteredModules = new FilteredList<>(versionedApplication.getModuleList());
         filteredDegreePlanners = new FilteredList<>((versionedApplication.getDegreePlannerList()));
@@ -58,6 +63,18 @@ public class ModelManager implements Model {
         filteredRequirementCategory.addListener(this::ensureSelectedRequirementCategoryIsValid);
     }
 
+    /**
+     * Initializes a ModelManager with the given application and userPrefs, which writes the oldest states of its
+     * undo history to {@code undoHistorySpill} instead of discarding them.
+     */
+    public ModelManager(ReadOnlyApplication application, ReadOnlyUserPrefs userPrefs,
+            UndoHistorySpill undoHistorySpill) {
+        this(application, userPrefs);
+        requireNonNull(undoHistorySpill);
+
+        versionedApplication.setUndoHistorySpill(undoHistorySpill);
+    }
+
     public ModelManager() {
         this(new Application(), new UserPrefs());
     }
@@ -73,6 +90,8 @@ public class ModelManager implements Model {
         requireNonNull(userPrefs);
 
         this.userPrefs.resetData(userPrefs);
+        versionedApplication.setUndoHistoryLimits(this.userPrefs.getUndoHistoryStateLimit(),
+                this.userPrefs.getUndoHistoryByteLimit());
     }
 
     @Override
@@ -147,6 +166,16 @@ public class ModelManager implements Model {
         versionedApplication.resetPlanner();
     }
 
+    @Override
+    public void beginBatch() {
+        versionedApplication.beginBatch();
+    }
+
+    @Override
+    public void endBatch() {
+        versionedApplication.endBatch();
+    }
+
     @Override
     public ReadOnlyApplication getApplication() {
         return versionedApplication;
@@ -166,6 +195,20 @@ public class ModelManager implements Model {
         return versionedApplication.getModuleByCode(code);
     }
 
+    @Override
+    public Set<Code> getModuleCodesByTag(Tag tag) {
+        requireNonNull(tag);
+
+        return versionedApplication.getModuleCodesByTag(tag);
+    }
+
+    @Override
+    public Set<Code> getModuleCodesByNameWord(String word) {
+        requireNonNull(word);
+
+        return versionedApplication.getModuleCodesByNameWord(word);
+    }
+
     @Override
     public boolean hasModuleCode(Code code) {
         requireNonNull(code);
@@ -242,9 +285,56 @@ public class ModelManager implements Model {
         versionedApplication.redo();
     }
 
+    @Override
+    public boolean canUndoApplication(int steps) {
+        return versionedApplication.canUndo(steps);
+    }
+
+    @Override
+    public boolean canRedoApplication(int steps) {
+        return versionedApplication.canRedo(steps);
+    }
+
+    @Override
+    public void undoApplication(int steps) {
+        versionedApplication.undo(steps);
+    }
+
+    @Override
+    public void redoApplication(int steps) {
+        versionedApplication.redo(steps);
+    }
+
+    @Override
+    public long getApplicationStateId() {
+        return versionedApplication.getCurrentStateId();
+    }
+
+    @Override
+    public OptionalInt getUndoStepsToApplicationState(long stateId) {
+        return versionedApplication.getUndoStepsTo(stateId);
+    }
+
+    @Override
+    public int getUndoHistorySize() {
+        return versionedApplication.getHistorySize();
+    }
+
+    @Override
+    public int getSpilledUndoHistorySize() {
+        return versionedApplication.getSpilledHistorySize();
+    }
+
+    @Override
+    public long getEstimatedUndoHistoryBytes() {
+        return versionedApplication.getEstimatedHistoryBytes();
+    }
+
     @Override
     public void commitApplication() {
         versionedApplication.commit();
+        logger.fine(String.format("Undo history holds %d states using about %d bytes",
+                versionedApplication.getHistorySize(), versionedApplication.getEstimatedHistoryBytes()));
     }
 
     //=========== Selected module ===========================================================================
@@ -392,6 +482,13 @@ public class ModelManager implements Model {
         return versionedApplication.getRequirementCategory(requirementCategoryName);
     }
 
+    @Override
+    public RequirementCategory getRequirementCategoryByCode(Code code) {
+        requireNonNull(code);
+
+        return versionedApplication.getRequirementCategoryByCode(code);
+    }
+
     @Override
     public void addRequirementCategory(RequirementCategory requirementCategory) {
         requireNonNull(requirementCategory);
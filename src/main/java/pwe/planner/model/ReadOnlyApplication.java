@@ -29,4 +29,43 @@ public interface ReadOnlyApplication extends Observable {
      */
     ObservableList<RequirementCategory> getRequirementCategoryList();
 
+    /**
+     * Returns the total credits of the modules in {@code degreePlanner}.
+     */
+    int getTotalCredits(DegreePlanner degreePlanner);
+
+    /**
+     * Returns the total credits of the modules in {@code requirementCategory}.
+     */
+    int getTotalCredits(RequirementCategory requirementCategory);
+
+    /**
+     * Returns a stamp identifying the current version of the application's data.
+     * The stamp increases whenever any of the lists is modified, and is never shared with another version of the data.
+     */
+    long getModificationStamp();
+
+    /**
+     * Returns a stamp identifying the current version of the modules list.
+     * The stamp increases whenever the list is modified, and is never shared with another version of any list.
+     */
+    long getModuleListModificationStamp();
+
+    /**
+     * Returns a stamp identifying the current version of the degree planner list.
+     * The stamp increases whenever the list is modified, and is never shared with another version of any list.
+     */
+    long getDegreePlannerListModificationStamp();
+
+    /**
+     * Returns a stamp identifying the current version of the requirementCategories list.
+     * The stamp increases whenever the list is modified, and is never shared with another version of any list.
+     */
+    long getRequirementCategoryListModificationStamp();
+
+    /**
+     * Returns a copy of the most recent changes made to the lists, which does not change with the application.
+     */
+    ApplicationChangeLog getRecentChanges();
+
 }
@@ -3,6 +3,7 @@ package pwe.planner.model;
 import java.nio.file.Path;
 
 import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -11,9 +12,23 @@ public interface ReadOnlyUserPrefs {
 
     GuiSettings getGuiSettings();
 
+    StorageFormat getStorageFormat();
+
     Path getModuleListFilePath();
 
     Path getDegreePlannerListFilePath();
 
     Path getRequirementCategoryListFilePath();
+
+    Path getUndoHistorySpillFilePath();
+
+    Path getJournalFilePath();
+
+    boolean isJournalEnabled();
+
+    boolean isWriteBehindEnabled();
+
+    int getUndoHistoryStateLimit();
+
+    long getUndoHistoryByteLimit();
 }
@@ -0,0 +1,29 @@
+package pwe.planner.model;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Stores the oldest saved states of a {@code VersionedApplication} outside of memory.
+ * Segments of states are read back in the reverse order they were written, as undoing walks the history backwards.
+ */
+public interface UndoHistorySpill {
+
+    /**
+     * Writes {@code deltas} as a new segment, after all previously written segments.
+     * @throws IOException if there was any problem writing to the spill.
+     */
+    void pushSegment(List<ApplicationDelta> deltas) throws IOException;
+
+    /**
+     * Reads and removes the most recently written segment.
+     * @throws IOException if there was any problem reading from the spill, or if the spill has no segments.
+     */
+    List<ApplicationDelta> popSegment() throws IOException;
+
+    /**
+     * Removes all segments.
+     * @throws IOException if there was any problem clearing the spill.
+     */
+    void clear() throws IOException;
+}
@@ -1,23 +1,35 @@
 package pwe.planner.model;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS = "Undo history limits should be positive";
+
     private GuiSettings guiSettings = new GuiSettings();
+    private StorageFormat storageFormat = StorageFormat.JSON;
 
     private Path moduleListFilePath = Paths.get("data", "moduleList.json");
     private Path degreePlannerListFilePath = Paths.get("data", "degreePlannerList.json");
     private Path requirementCategoryListFilePath = Paths.get("data", "requirementCategoryList.json");
+    private Path undoHistorySpillFilePath = Paths.get("data", "undoHistory.spill");
+    private Path journalFilePath = Paths.get("data", "application.journal");
+    private boolean isJournalEnabled = false;
+    private boolean isWriteBehindEnabled = true;
+
+    private int undoHistoryStateLimit = 100;
+    private long undoHistoryByteLimit = 16L * 1024 * 1024;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -41,10 +53,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
 
         setGuiSettings(newUserPrefs.getGuiSettings());
+        setStorageFormat(newUserPrefs.getStorageFormat());
         setModuleListFilePath(newUserPrefs.getModuleListFilePath());
         setDegreePlannerListFilePath(newUserPrefs.getDegreePlannerListFilePath());
         setRequirementCategoryListFilePath(newUserPrefs.getRequirementCategoryListFilePath());
-
+        setUndoHistorySpillFilePath(newUserPrefs.getUndoHistorySpillFilePath());
+        setJournalFilePath(newUserPrefs.getJournalFilePath());
+        setJournalEnabled(newUserPrefs.isJournalEnabled());
+        setWriteBehindEnabled(newUserPrefs.isWriteBehindEnabled());
+        setUndoHistoryStateLimit(newUserPrefs.getUndoHistoryStateLimit());
+        setUndoHistoryByteLimit(newUserPrefs.getUndoHistoryByteLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +75,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings = guiSettings;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+
+        this.storageFormat = storageFormat;
+    }
+
     public Path getModuleListFilePath() {
         return moduleListFilePath;
     }
@@ -87,6 +115,78 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.requirementCategoryListFilePath = requirementCategoryListFilePath;
     }
 
+    public Path getUndoHistorySpillFilePath() {
+        return undoHistorySpillFilePath;
+    }
+
+    public void setUndoHistorySpillFilePath(Path undoHistorySpillFilePath) {
+        requireNonNull(undoHistorySpillFilePath);
+
+        this.undoHistorySpillFilePath = undoHistorySpillFilePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    public void setJournalFilePath(Path journalFilePath) {
+        requireNonNull(journalFilePath);
+
+        this.journalFilePath = journalFilePath;
+    }
+
+    public boolean isJournalEnabled() {
+        return isJournalEnabled;
+    }
+
+    /**
+     * Sets whether the changes to the application are appended to the journal instead of rewriting the JSON data
+     * files every time the application is saved.
+     */
+    public void setJournalEnabled(boolean isJournalEnabled) {
+        this.isJournalEnabled = isJournalEnabled;
+    }
+
+    public boolean isWriteBehindEnabled() {
+        return isWriteBehindEnabled;
+    }
+
+    /**
+     * Sets whether the application is saved in the background after each command, instead of before the command
+     * returns.
+     */
+    public void setWriteBehindEnabled(boolean isWriteBehindEnabled) {
+        this.isWriteBehindEnabled = isWriteBehindEnabled;
+    }
+
+    public int getUndoHistoryStateLimit() {
+        return undoHistoryStateLimit;
+    }
+
+    /**
+     * Sets the maximum number of states that can be undone.
+     * {@code undoHistoryStateLimit} must be positive.
+     */
+    public void setUndoHistoryStateLimit(int undoHistoryStateLimit) {
+        checkArgument(undoHistoryStateLimit > 0, MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS);
+
+        this.undoHistoryStateLimit = undoHistoryStateLimit;
+    }
+
+    public long getUndoHistoryByteLimit() {
+        return undoHistoryByteLimit;
+    }
+
+    /**
+     * Sets the maximum estimated memory, in bytes, used by the states that can be undone.
+     * {@code undoHistoryByteLimit} must be positive.
+     */
+    public void setUndoHistoryByteLimit(long undoHistoryByteLimit) {
+        checkArgument(undoHistoryByteLimit > 0, MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS);
+
+        this.undoHistoryByteLimit = undoHistoryByteLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -99,14 +199,23 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
+                && storageFormat == o.storageFormat
                 && moduleListFilePath.toAbsolutePath().equals(o.moduleListFilePath.toAbsolutePath())
-                && degreePlannerListFilePath.toAbsolutePath().equals(o.degreePlannerListFilePath.toAbsolutePath());
+                && degreePlannerListFilePath.toAbsolutePath().equals(o.degreePlannerListFilePath.toAbsolutePath())
+                && undoHistorySpillFilePath.toAbsolutePath().equals(o.undoHistorySpillFilePath.toAbsolutePath())
+                && journalFilePath.toAbsolutePath().equals(o.journalFilePath.toAbsolutePath())
+                && isJournalEnabled == o.isJournalEnabled
+                && isWriteBehindEnabled == o.isWriteBehindEnabled
+                && undoHistoryStateLimit == o.undoHistoryStateLimit
+                && undoHistoryByteLimit == o.undoHistoryByteLimit;
 
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, moduleListFilePath, degreePlannerListFilePath);
+        return Objects.hash(guiSettings, storageFormat, moduleListFilePath, degreePlannerListFilePath,
+                undoHistorySpillFilePath, journalFilePath, isJournalEnabled, isWriteBehindEnabled,
+                undoHistoryStateLimit, undoHistoryByteLimit);
     }
 
     @Override
@@ -115,6 +224,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 .append("Gui Settings : ")
                 .append(guiSettings)
                 .append('\n')
+                .append("Storage format : ")
+                .append(storageFormat)
+                .append('\n')
                 .append("Local data file location for module list: ")
                 .append(Paths.get("").toAbsolutePath().relativize(moduleListFilePath.toAbsolutePath()))
                 .append('\n')
@@ -123,6 +235,22 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 .append('\n')
                 .append("Local data file location for degree planner list: ")
                 .append(Paths.get("").toAbsolutePath().relativize(degreePlannerListFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Local spill file location for undo history: ")
+                .append(Paths.get("").toAbsolutePath().relativize(undoHistorySpillFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Local journal file location for application changes: ")
+                .append(Paths.get("").toAbsolutePath().relativize(journalFilePath.toAbsolutePath()))
+                .append(isJournalEnabled ? " (enabled)" : " (disabled)")
+                .append('\n')
+                .append("Saving in the background: ")
+                .append(isWriteBehindEnabled ? "enabled" : "disabled")
+                .append('\n')
+                .append("Undo history limits: ")
+                .append(undoHistoryStateLimit)
+                .append(" states, ")
+                .append(undoHistoryByteLimit)
+                .append(" bytes")
                 .toString();
     }
 
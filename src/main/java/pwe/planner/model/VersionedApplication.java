@@ -1,76 +1,379 @@
 package pwe.planner.model;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.model.UserPrefs.MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
 
 /**
  * {@code Application} that keeps track of its own history.
+ * Instead of copies of each saved state, the history holds the changes made to the lists of the application between
+ * consecutive saved states. Undoing and redoing apply those changes in reverse or again, so their cost depends only on
+ * the size of the changes.
+ *
+ * If an {@code UndoHistorySpill} is set, the oldest states over the undo history limits are written to the spill
+ * instead of being evicted, and are read back when undoing past the states kept in memory.
  */
 public class VersionedApplication extends Application {
 
-    private final List<ReadOnlyApplication> applicationStateList;
+    public static final String MESSAGE_INVALID_STEPS = "Number of states to undo or redo should be positive";
+
+    // number of states written to the spill at once
+    static final int SPILL_SEGMENT_SIZE = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(VersionedApplication.class);
+
+    // applicationDeltaList.get(i) holds the changes which turn the i-th saved state in memory into the (i + 1)-th
+    // saved state in memory; the saved states in the spill come before all of them
+    private final List<ApplicationDelta> applicationDeltaList;
+    // number of states in each segment of the spill, in the order the segments were written
+    private final List<Integer> spilledSegmentSizes = new ArrayList<>();
+    private int spilledStateCount;
+    private UndoHistorySpill undoHistorySpill;
+    // stateIds.get(i) identifies the i-th saved state, counting the saved states in the spill;
+    // ids are never reused, so they are in increasing order
+    private final List<Long> stateIds = new ArrayList<>();
+    private long nextStateId;
     private int currentStatePointer;
+    private long estimatedHistoryBytes;
+    private int undoHistoryStateLimit = Integer.MAX_VALUE;
+    private long undoHistoryByteLimit = Long.MAX_VALUE;
+    // changes made since the current state was saved or restored
+    private ApplicationDelta uncommittedDelta;
+    private boolean isReplaying;
 
     public VersionedApplication(ReadOnlyApplication initialState) {
         super(initialState);
         requireNonNull(initialState);
 
-        applicationStateList = new ArrayList<>();
-        applicationStateList.add(new Application(initialState));
+        applicationDeltaList = new ArrayList<>();
         currentStatePointer = 0;
+        stateIds.add(nextStateId++);
+        uncommittedDelta = new ApplicationDelta();
+
+        getModuleList().addListener((ListChangeListener<Module>) change ->
+                recordChange(change, uncommittedDelta::addModuleChange));
+        getDegreePlannerList().addListener((ListChangeListener<DegreePlanner>) change ->
+                recordChange(change, uncommittedDelta::addDegreePlannerChange));
+        getRequirementCategoryList().addListener((ListChangeListener<RequirementCategory>) change ->
+                recordChange(change, uncommittedDelta::addRequirementCategoryChange));
+    }
+
+    /**
+     * Records each change in {@code change} with {@code recorder}, unless the change is made while replaying
+     * the history.
+     */
+    private <E> void recordChange(ListChangeListener.Change<? extends E> change, Consumer<ListChange<E>> recorder) {
+        if (isReplaying) {
+            return;
+        }
+
+        while (change.next()) {
+            assert !change.wasPermutated() : "The lists of an application are never permutated";
+            recorder.accept(new ListChange<>(change.getFrom(), change.getRemoved(), change.getAddedSubList()));
+        }
     }
 
     /**
-     * Saves a copy of the current {@code Application} state at the end of the state list.
+     * Saves the changes made since the current {@code Application} state as a new state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
+        // changes are only recorded once a batch has published them
+        assert !isInBatch() : "Cannot commit inside a batch of modifications";
+
         removeStatesAfterCurrentPointer();
-        applicationStateList.add(new Application(this));
+        applicationDeltaList.add(uncommittedDelta);
+        estimatedHistoryBytes += uncommittedDelta.estimateBytes();
+        uncommittedDelta = new ApplicationDelta();
         currentStatePointer++;
+        stateIds.add(nextStateId++);
+        evictStatesOverLimits();
         indicateModified();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        applicationStateList.subList(currentStatePointer + 1, applicationStateList.size()).clear();
+        List<ApplicationDelta> undoneDeltas =
+                applicationDeltaList.subList(currentStatePointer, applicationDeltaList.size());
+        undoneDeltas.forEach(delta -> estimatedHistoryBytes -= delta.estimateBytes());
+        undoneDeltas.clear();
+        stateIds.subList(getAbsoluteStatePointer() + 1, stateIds.size()).clear();
+    }
+
+    /**
+     * Sets the maximum number of states that can be undone to {@code stateLimit}, and the maximum estimated memory
+     * used by those states to {@code byteLimit} bytes.
+     * The oldest states are evicted as soon as either limit is exceeded.
+     */
+    public void setUndoHistoryLimits(int stateLimit, long byteLimit) {
+        checkArgument(stateLimit > 0 && byteLimit > 0, MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS);
+
+        undoHistoryStateLimit = stateLimit;
+        undoHistoryByteLimit = byteLimit;
+        evictStatesOverLimits();
+    }
+
+    /**
+     * Sets the spill to which the oldest states over the undo history limits are written.
+     * Any states previously written to the spill are discarded.
+     */
+    public void setUndoHistorySpill(UndoHistorySpill undoHistorySpill) {
+        requireNonNull(undoHistorySpill);
+
+        discardSpilledStates();
+        this.undoHistorySpill = undoHistorySpill;
+        evictStatesOverLimits();
+    }
+
+    /**
+     * Moves the oldest states out of memory until the states in memory that can be undone are within the undo
+     * history limits. The states are written to the undo history spill if there is one, and discarded otherwise.
+     * States which can be redone are never moved out of memory.
+     */
+    private void evictStatesOverLimits() {
+        while (currentStatePointer > 0 && (currentStatePointer > undoHistoryStateLimit
+                || estimatedHistoryBytes > undoHistoryByteLimit)) {
+            int evictedStateCount = Math.min(SPILL_SEGMENT_SIZE, currentStatePointer);
+            List<ApplicationDelta> evictedDeltas = applicationDeltaList.subList(0, evictedStateCount);
+            if (undoHistorySpill == null || !spill(evictedDeltas)) {
+                evictedStateCount = 1;
+                evictedDeltas = applicationDeltaList.subList(0, evictedStateCount);
+                discardSpilledStates();
+                stateIds.subList(0, evictedStateCount).clear();
+            }
+
+            evictedDeltas.forEach(delta -> estimatedHistoryBytes -= delta.estimateBytes());
+            evictedDeltas.clear();
+            currentStatePointer -= evictedStateCount;
+        }
+    }
+
+    /**
+     * Writes {@code deltas} to the undo history spill as a new segment.
+     * Returns false if the segment could not be written.
+     */
+    private boolean spill(List<ApplicationDelta> deltas) {
+        try {
+            undoHistorySpill.pushSegment(new ArrayList<>(deltas));
+        } catch (IOException ioe) {
+            logger.warning("Failed to spill undo history, older states will be discarded instead: "
+                    + StringUtil.getDetails(ioe));
+            return false;
+        }
+
+        spilledSegmentSizes.add(deltas.size());
+        spilledStateCount += deltas.size();
+        return true;
+    }
+
+    /**
+     * Reads the most recently spilled segment of states back into memory, before all the states in memory.
+     * If the segment cannot be read, all spilled states are discarded and false is returned.
+     */
+    private boolean loadSpilledSegment() {
+        assert !spilledSegmentSizes.isEmpty();
+
+        List<ApplicationDelta> deltas;
+        try {
+            deltas = undoHistorySpill.popSegment();
+        } catch (IOException ioe) {
+            logger.warning("Failed to read spilled undo history, older states are discarded: "
+                    + StringUtil.getDetails(ioe));
+            discardSpilledStates();
+            return false;
+        }
+
+        int segmentSize = spilledSegmentSizes.remove(spilledSegmentSizes.size() - 1);
+        assert deltas.size() == segmentSize;
+        spilledStateCount -= segmentSize;
+        applicationDeltaList.addAll(0, deltas);
+        deltas.forEach(delta -> estimatedHistoryBytes += delta.estimateBytes());
+        currentStatePointer += segmentSize;
+        return true;
+    }
+
+    /**
+     * Discards all states written to the undo history spill.
+     */
+    private void discardSpilledStates() {
+        if (spilledStateCount == 0) {
+            return;
+        }
+
+        stateIds.subList(0, spilledStateCount).clear();
+        spilledSegmentSizes.clear();
+        spilledStateCount = 0;
+        try {
+            undoHistorySpill.clear();
+        } catch (IOException ioe) {
+            logger.warning("Failed to clear undo history spill: " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * Returns the number of saved states, excluding the current one, that can be undone or redone.
+     */
+    public int getHistorySize() {
+        return spilledStateCount + applicationDeltaList.size();
+    }
+
+    /**
+     * Returns the number of saved states that are written to the undo history spill instead of kept in memory.
+     */
+    public int getSpilledHistorySize() {
+        return spilledStateCount;
+    }
+
+    /**
+     * Returns an estimate of the memory, in bytes, used by the saved states in memory that can be undone or redone.
+     */
+    public long getEstimatedHistoryBytes() {
+        return estimatedHistoryBytes;
     }
 
     /**
      * Restores the application to its previous state.
      */
     public void undo() {
-        if (!canUndo()) {
+        undo(1);
+    }
+
+    /**
+     * Restores the application to the state {@code steps} states before the current state.
+     * The intermediate states are skipped, so the application is only changed, and its listeners notified, once.
+     * The spilled states needed are read back into memory first. If they cannot be read, all spilled states are
+     * discarded and {@code NoUndoableStateException} is thrown without changing the application.
+     */
+    public void undo(int steps) {
+        checkArgument(steps > 0, MESSAGE_INVALID_STEPS);
+        if (!canUndo(steps)) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(applicationStateList.get(currentStatePointer));
+        while (currentStatePointer < steps) {
+            if (!loadSpilledSegment()) {
+                throw new NoUndoableStateException();
+            }
+        }
+
+        ApplicationDelta delta = uncommittedDelta.inverse();
+        for (int i = 0; i < steps; i++) {
+            currentStatePointer--;
+            delta.append(applicationDeltaList.get(currentStatePointer).inverse());
+        }
+        uncommittedDelta = new ApplicationDelta();
+        replay(delta);
     }
 
     /**
      * Restores the application to its previously undone state.
      */
     public void redo() {
-        if (!canRedo()) {
+        redo(1);
+    }
+
+    /**
+     * Restores the application to the state {@code steps} states after the current state.
+     * The intermediate states are skipped, so the application is only changed, and its listeners notified, once.
+     */
+    public void redo(int steps) {
+        checkArgument(steps > 0, MESSAGE_INVALID_STEPS);
+        if (!canRedo(steps)) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(applicationStateList.get(currentStatePointer));
+
+        ApplicationDelta delta = uncommittedDelta.inverse();
+        for (int i = 0; i < steps; i++) {
+            delta.append(applicationDeltaList.get(currentStatePointer));
+            currentStatePointer++;
+        }
+        uncommittedDelta = new ApplicationDelta();
+        replay(delta);
+    }
+
+    /**
+     * Returns the id of the current saved state.
+     * Ids are unique for the lifetime of this application, so they can be used to refer to a saved state later on.
+     */
+    public long getCurrentStateId() {
+        return stateIds.get(getAbsoluteStatePointer());
+    }
+
+    /**
+     * Returns the number of states to undo to restore the saved state with the id {@code stateId}, or an empty
+     * {@code OptionalInt} if that state cannot be restored by undoing.
+     */
+    public OptionalInt getUndoStepsTo(long stateId) {
+        int index = Collections.binarySearch(stateIds, stateId);
+        int absoluteStatePointer = getAbsoluteStatePointer();
+        if (index < 0 || index > absoluteStatePointer) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(absoluteStatePointer - index);
+    }
+
+    /**
+     * Returns the index of the current saved state, counting the saved states in the spill.
+     */
+    private int getAbsoluteStatePointer() {
+        return spilledStateCount + currentStatePointer;
+    }
+
+    /**
+     * Applies {@code delta} to the application without recording it as a change.
+     */
+    private void replay(ApplicationDelta delta) {
+        assert !isInBatch() : "Cannot undo or redo inside a batch of modifications";
+
+        isReplaying = true;
+        try {
+            applyDelta(delta);
+        } finally {
+            isReplaying = false;
+        }
     }
 
     /**
      * Returns true if {@code undo()} has application states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return canUndo(1);
+    }
+
+    /**
+     * Returns true if {@code undo(steps)} has at least {@code steps} application states to undo, counting the spilled
+     * states without reading them back.
+     */
+    public boolean canUndo(int steps) {
+        return steps <= getAbsoluteStatePointer();
     }
 
     /**
      * Returns true if {@code redo()} has application states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < applicationStateList.size() - 1;
+        return canRedo(1);
+    }
+
+    /**
+     * Returns true if {@code redo(steps)} has at least {@code steps} application states to redo.
+     */
+    public boolean canRedo(int steps) {
+        return steps <= applicationDeltaList.size() - currentStatePointer;
     }
 
     @Override
@@ -87,10 +390,17 @@ public class VersionedApplication extends Application {
 
         VersionedApplication otherVersionedApplication = (VersionedApplication) other;
 
-        // state check
+        // state check; as the current states are equal, the saved states in memory are equal if the changes between
+        // them are. The changes are compared normalized, so that the same replacements made in a different order
+        // still compare equal. The spilled states are not read back, so only their number is compared.
         return super.equals(otherVersionedApplication)
-                && applicationStateList.equals(otherVersionedApplication.applicationStateList)
-                && currentStatePointer == otherVersionedApplication.currentStatePointer;
+                && currentStatePointer == otherVersionedApplication.currentStatePointer
+                && spilledSegmentSizes.equals(otherVersionedApplication.spilledSegmentSizes)
+                && getNormalizedDeltas().equals(otherVersionedApplication.getNormalizedDeltas());
+    }
+
+    private List<ApplicationDelta> getNormalizedDeltas() {
+        return applicationDeltaList.stream().map(ApplicationDelta::normalized).collect(Collectors.toList());
     }
 
     /**
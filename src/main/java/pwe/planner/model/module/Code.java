@@ -3,6 +3,8 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import pwe.planner.commons.util.WeakInterner;
+
 /**
  * Represents a Module's code in the application.
  * Guarantees: immutable; is valid as declared in {@link #isValidCode(String)}
@@ -19,6 +21,8 @@ public class Code implements Comparable<Code> {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alpha}]{2,3}[\\p{Digit}]{4}[\\p{Alpha}]?";
 
+    private static final WeakInterner<Code> CANONICAL_CODES = new WeakInterner<>(Code::new, code -> code.value);
+
     public final String value;
 
     /**
@@ -33,6 +37,19 @@ public class Code implements Comparable<Code> {
         value = code.toUpperCase();
     }
 
+    /**
+     * Returns the canonical {@code Code} for {@code code}, creating it if the value is not in use.
+     * Equal values returned by this method are the same instance, so they share memory and compare by identity.
+     *
+     * @param code A valid code.
+     */
+    public static Code of(String code) {
+        requireNonNull(code);
+        checkArgument(isValidCode(code), MESSAGE_CONSTRAINTS);
+
+        return CANONICAL_CODES.intern(code.toUpperCase());
+    }
+
     /**
      * Returns true if a given string is a valid code.
      */
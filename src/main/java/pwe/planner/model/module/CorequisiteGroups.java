@@ -0,0 +1,156 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A disjoint-set (union-find) structure that partitions module codes into co-requisite groups.
+ * Two codes are in the same group if they are (directly or transitively) co-requisites of each other.
+ *
+ * Codes which are not co-requisites of any other code are not stored, and are treated as a group on their own.
+ * Merging groups and querying the group of a code take near-constant time (union by size with path compression).
+ * Removing a code from a group takes time proportional to the size of that group.
+ */
+class CorequisiteGroups {
+
+    private final Map<Code, Code> parents = new HashMap<>();
+    private final Map<Code, Set<Code>> rootToMembers = new HashMap<>();
+
+    /**
+     * Returns an unmodifiable view of the codes in the same co-requisite group as {@code code}, including
+     * {@code code} itself. The view is not updated by later changes to the groups, but may be modified by them, so
+     * it has to be copied if it is used after the groups are changed.
+     */
+    public Set<Code> getGroup(Code code) {
+        requireNonNull(code);
+
+        if (!parents.containsKey(code)) {
+            return Collections.singleton(code);
+        }
+        return Collections.unmodifiableSet(rootToMembers.get(find(code)));
+    }
+
+    /**
+     * Merges the co-requisite groups of {@code code} and {@code otherCode}.
+     */
+    public void union(Code code, Code otherCode) {
+        requireAllNonNull(code, otherCode);
+
+        Code root = findOrCreate(code);
+        Code otherRoot = findOrCreate(otherCode);
+        if (root.equals(otherRoot)) {
+            return;
+        }
+
+        Set<Code> members = rootToMembers.get(root);
+        Set<Code> otherMembers = rootToMembers.get(otherRoot);
+        if (members.size() < otherMembers.size()) {
+            Code swappedRoot = root;
+            root = otherRoot;
+            otherRoot = swappedRoot;
+            members = otherMembers;
+            otherMembers = rootToMembers.get(otherRoot);
+        }
+
+        parents.put(otherRoot, root);
+        members.addAll(otherMembers);
+        rootToMembers.remove(otherRoot);
+    }
+
+    /**
+     * Removes {@code code} from its co-requisite group.
+     * The remaining codes in the group stay in the same group.
+     */
+    public void remove(Code code) {
+        requireNonNull(code);
+
+        if (!parents.containsKey(code)) {
+            return;
+        }
+
+        Code root = find(code);
+        Set<Code> members = rootToMembers.remove(root);
+        members.remove(code);
+        parents.remove(code);
+
+        if (members.size() <= 1) {
+            members.forEach(parents::remove);
+            return;
+        }
+
+        // other codes may point to the removed code, so re-link the remaining members to a new root
+        Code newRoot = members.iterator().next();
+        members.forEach(member -> parents.put(member, newRoot));
+        rootToMembers.put(newRoot, members);
+    }
+
+    /**
+     * Replaces {@code code} with {@code editedCode} in its co-requisite group.
+     */
+    public void rename(Code code, Code editedCode) {
+        requireAllNonNull(code, editedCode);
+
+        Set<Code> group = new HashSet<>(getGroup(code));
+        remove(code);
+        group.remove(code);
+        group.forEach(member -> union(editedCode, member));
+    }
+
+    /**
+     * Removes all co-requisite groups.
+     */
+    public void clear() {
+        parents.clear();
+        rootToMembers.clear();
+    }
+
+    /**
+     * Replaces all co-requisite groups with those in {@code replacement}.
+     */
+    public void setGroups(CorequisiteGroups replacement) {
+        requireNonNull(replacement);
+
+        clear();
+        parents.putAll(replacement.parents);
+        replacement.rootToMembers.forEach((root, members) -> rootToMembers.put(root, new HashSet<>(members)));
+    }
+
+    /**
+     * Returns the root of the co-requisite group of {@code code}, compressing the path to the root.
+     * {@code code} must be in a co-requisite group.
+     */
+    private Code find(Code code) {
+        Code root = code;
+        while (!parents.get(root).equals(root)) {
+            root = parents.get(root);
+        }
+
+        Code current = code;
+        while (!current.equals(root)) {
+            Code next = parents.get(current);
+            parents.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+
+    /**
+     * Returns the root of the co-requisite group of {@code code}, creating a new group for {@code code} if needed.
+     */
+    private Code findOrCreate(Code code) {
+        if (!parents.containsKey(code)) {
+            parents.put(code, code);
+            Set<Code> members = new HashSet<>();
+            members.add(code);
+            rootToMembers.put(code, members);
+            return code;
+        }
+        return find(code);
+    }
+}
@@ -3,8 +3,11 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import pwe.planner.commons.util.WeakInterner;
+
 /**
  * Represents a Module's credits in the application.
+ * The amount of credits is stored as an {@code int}; its string form is kept for display.
  * Guarantees: immutable; is valid as declared in {@link #isValidCredits(String)}
  */
 public class Credits {
@@ -12,7 +15,11 @@ public class Credits {
     public static final String MESSAGE_CONSTRAINTS =
             "Credits should only contain numbers between 0 and 999.";
     public static final String VALIDATION_REGEX = "0|([\\d&&[^0]]{1}[\\d]{0,2})";
+    private static final WeakInterner<Credits> CANONICAL_CREDITS =
+            new WeakInterner<>(Credits::new, credits -> credits.value);
+
     public final String value;
+    private final int intValue;
 
     /**
      * Constructs a {@code Credits}.
@@ -24,6 +31,20 @@ public class Credits {
         checkArgument(isValidCredits(credits), MESSAGE_CONSTRAINTS);
 
         value = credits;
+        intValue = Integer.parseInt(credits);
+    }
+
+    /**
+     * Returns the canonical {@code Credits} for {@code credits}, creating it if the value is not in use.
+     * Equal values returned by this method are the same instance, so they share memory and compare by identity.
+     *
+     * @param credits A valid amount of credits.
+     */
+    public static Credits of(String credits) {
+        requireNonNull(credits);
+        checkArgument(isValidCredits(credits), MESSAGE_CONSTRAINTS);
+
+        return CANONICAL_CREDITS.intern(credits);
     }
 
     /**
@@ -35,6 +56,13 @@ public class Credits {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the amount of credits as an {@code int}.
+     */
+    public int getIntValue() {
+        return intValue;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -44,12 +72,12 @@ public class Credits {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Credits // instanceof handles nulls
-                && value.equals(((Credits) other).value)); // state check
+                && intValue == ((Credits) other).intValue); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(intValue);
     }
 
 }
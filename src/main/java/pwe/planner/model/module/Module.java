@@ -1,9 +1,15 @@
 package pwe.planner.model.module;
 
+import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -24,6 +30,11 @@ public class Module {
             + "Co-requisites: %5$s\n"
             + "Tags: %6$s";
 
+    /**
+     * The unmodifiable sets of semesters represented by each semester mask, indexed by the mask.
+     */
+    private static final List<Set<Semester>> SEMESTER_SETS = createSemesterSets();
+
     // Identity fields
     private final Code code;
 
@@ -31,8 +42,15 @@ public class Module {
     private final Name name;
     private final Credits credits;
     private final Set<Tag> tags = new HashSet<>();
-    private final Set<Code> corequisites = new HashSet<>();
-    private final Set<Semester> semesters = new HashSet<>();
+    private final Set<Code> corequisites;
+    // The co-requisite group which the co-requisites are a view of, shared with the other modules in the group;
+    // null if the co-requisites are a set of their own
+    private final Set<Code> corequisiteGroup;
+    // The semesters the module is offered in, as the bitwise OR of their masks
+    private final int semestersMask;
+
+    // Cached hash code, as the module is immutable; 0 if not computed yet
+    private int hashCode;
 
     /**
      * Every field must be present and not null.
@@ -44,11 +62,46 @@ public class Module {
         this.code = code;
         this.name = name;
         this.credits = credits;
-        this.semesters.addAll(semesters);
-        this.corequisites.addAll(corequisites);
+        this.semestersMask = toMask(semesters);
+        this.corequisites = new HashSet<>(corequisites);
+        this.corequisiteGroup = null;
         this.tags.addAll(tags);
     }
 
+    /**
+     * Creates a copy of {@code source} whose co-requisites are the codes in {@code corequisiteGroup} other than its
+     * own code.
+     */
+    private Module(Module source, Set<Code> corequisiteGroup) {
+        this.code = source.code;
+        this.name = source.name;
+        this.credits = source.credits;
+        this.semestersMask = source.semestersMask;
+        this.corequisites = new OtherGroupMembers(corequisiteGroup, source.code);
+        this.corequisiteGroup = corequisiteGroup;
+        this.tags.addAll(source.tags);
+    }
+
+    /**
+     * Returns a copy of this module whose co-requisites are the codes in {@code corequisiteGroup} other than its own
+     * code. {@code corequisiteGroup} must contain the code of this module and must never be modified, as it is
+     * shared instead of copied, so that the modules in the same co-requisite group do not each hold a copy of it.
+     */
+    Module withCorequisiteGroup(Set<Code> corequisiteGroup) {
+        requireNonNull(corequisiteGroup);
+        assert corequisiteGroup.contains(code);
+
+        return new Module(this, corequisiteGroup);
+    }
+
+    /**
+     * Returns the co-requisite group shared by {@link #withCorequisiteGroup(Set)}, or null if this module was not
+     * created from one.
+     */
+    Set<Code> getCorequisiteGroup() {
+        return corequisiteGroup;
+    }
+
     public Code getCode() {
         return code;
     }
@@ -66,7 +119,22 @@ public class Module {
      * if modification is attempted.
      */
     public Set<Semester> getSemesters() {
-        return Collections.unmodifiableSet(semesters);
+        return SEMESTER_SETS.get(semestersMask);
+    }
+
+    /**
+     * Returns true if the module is offered in {@code semester}.
+     */
+    public boolean isOfferedIn(Semester semester) {
+        return (semestersMask & semester.getMask()) != 0;
+    }
+
+    /**
+     * Returns true if the module is offered in every semester in {@code semesters}.
+     */
+    public boolean isOfferedInAll(Collection<Semester> semesters) {
+        int mask = toMask(semesters);
+        return (semestersMask & mask) == mask;
     }
 
     /**
@@ -112,23 +180,32 @@ public class Module {
         }
 
         Module otherModule = (Module) other;
+        if (otherModule.hashCode() != hashCode()) {
+            return false;
+        }
+
         return otherModule.getCode().equals(getCode())
                 && otherModule.getName().equals(getName())
                 && otherModule.getCredits().equals(getCredits())
                 && otherModule.getCorequisites().equals(getCorequisites())
-                && otherModule.getSemesters().equals(getSemesters())
+                && otherModule.semestersMask == semestersMask
                 && otherModule.getTags().equals(getTags());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(code, name, credits, semesters, corequisites, tags);
+        if (hashCode == 0) {
+            // the co-requisites are only hashed by their number, as hashing a view of a co-requisite group takes time
+            // proportional to the size of the group
+            hashCode = Objects.hash(code, name, credits, semestersMask, corequisites.size(), tags);
+        }
+        return hashCode;
     }
 
     @Override
     public String toString() {
 
-        final String allSemesters = StringUtil.joinStreamAsString(semesters.stream().sorted());
+        final String allSemesters = StringUtil.joinStreamAsString(getSemesters().stream().sorted());
 
         final String allCorequisites = StringUtil.joinStreamAsString(corequisites.stream().sorted());
 
@@ -136,4 +213,68 @@ public class Module {
 
         return String.format(STRING_REPRESENTATION, code, name, credits, allSemesters, allCorequisites, allTags);
     }
+
+    /**
+     * Returns the bitwise OR of the masks of {@code semesters}.
+     */
+    private static int toMask(Collection<Semester> semesters) {
+        int mask = 0;
+        for (Semester semester : semesters) {
+            mask |= semester.getMask();
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the unmodifiable set of semesters represented by each semester mask, indexed by the mask.
+     * There are only as many masks as subsets of the valid semesters, so the modules share these sets instead of
+     * each holding a set of its own.
+     */
+    private static List<Set<Semester>> createSemesterSets() {
+        List<Semester> allSemesters = new ArrayList<>();
+        for (char semester = '1'; Semester.isValidSemester(String.valueOf(semester)); semester++) {
+            allSemesters.add(Semester.of(String.valueOf(semester)));
+        }
+
+        int allSemestersMask = toMask(allSemesters);
+        List<Set<Semester>> semesterSets = new ArrayList<>();
+        for (int mask = 0; mask <= allSemestersMask; mask++) {
+            Set<Semester> semesters = new HashSet<>();
+            for (Semester semester : allSemesters) {
+                if ((mask & semester.getMask()) != 0) {
+                    semesters.add(semester);
+                }
+            }
+            semesterSets.add(Collections.unmodifiableSet(semesters));
+        }
+        return semesterSets;
+    }
+
+    /**
+     * An unmodifiable view of the codes in a co-requisite group other than the code of one of its modules.
+     */
+    private static class OtherGroupMembers extends AbstractSet<Code> {
+        private final Set<Code> group;
+        private final Code excludedCode;
+
+        OtherGroupMembers(Set<Code> group, Code excludedCode) {
+            this.group = group;
+            this.excludedCode = excludedCode;
+        }
+
+        @Override
+        public boolean contains(Object object) {
+            return !excludedCode.equals(object) && group.contains(object);
+        }
+
+        @Override
+        public int size() {
+            return group.size() - 1;
+        }
+
+        @Override
+        public Iterator<Code> iterator() {
+            return group.stream().filter(member -> !member.equals(excludedCode)).iterator();
+        }
+    }
 }
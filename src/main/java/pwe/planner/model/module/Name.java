@@ -3,6 +3,11 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Represents a Module's name in the application.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -43,6 +48,24 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the whitespace-separated words of this name, case-folded by {@link #foldWord(String)}.
+     */
+    Set<String> getFoldedWords() {
+        return Arrays.stream(fullName.split("\\s+"))
+                .map(Name::foldWord)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns {@code word} trimmed and case-folded, so that words which only differ in case are equal.
+     */
+    static String foldWord(String word) {
+        requireNonNull(word);
+
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -3,16 +3,25 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
 
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 /**
  * Tests that a {@code Module}'s {@code Name} matches the keyword given.
  */
 public class NameContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
     private final String keyword;
+    private final String firstWord;
+    private final boolean isSingleWord;
 
     public NameContainsKeywordsPredicate(String keyword) {
         requireNonNull(keyword);
 
         this.keyword = keyword;
+        String[] words = keyword.trim().split("\\s+");
+        this.firstWord = words[0];
+        this.isSingleWord = words.length == 1;
     }
 
     @Override
@@ -24,6 +33,24 @@ public class NameContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
         return parseKeyword(keyword, moduleName);
     }
 
+    /**
+     * Returns a predicate equivalent to this one, which looks up whether a module's name contains the first word of
+     * the keyword in {@code nameWordIndex} instead of splitting the name. A multi-word keyword is then only compared
+     * with the names of the modules found.
+     *
+     * @param nameWordIndex returns the codes of the modules whose name contains the given word, ignoring case
+     */
+    public Predicate<T> withNameWordIndex(Function<String, Set<Code>> nameWordIndex) {
+        requireNonNull(nameWordIndex);
+
+        return object -> {
+            requireNonNull(object);
+            Module module = (Module) object;
+
+            return nameWordIndex.apply(firstWord).contains(module.getCode()) && (isSingleWord || test(object));
+        };
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
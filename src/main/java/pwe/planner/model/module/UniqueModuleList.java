@@ -3,16 +3,24 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.util.BatchedObservableList;
+import pwe.planner.commons.util.CollectionUtil;
 import pwe.planner.model.module.exceptions.DuplicateModuleException;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
+import pwe.planner.model.tag.Tag;
 
 /**
  * A list of modules that enforces uniqueness between its elements and does not allow nulls.
@@ -23,13 +31,32 @@ import pwe.planner.model.module.exceptions.ModuleNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Modules are additionally indexed by their {@code Code} so that look-ups by code do not require a scan of the
+ * whole list, and by each of their {@code Tag}s so that the modules carrying a tag can be found without checking
+ * every module. Each module is also indexed by identity to its position in the list, so that replacing or removing
+ * it does not require an equality scan. The indexes are kept in sync with the backing list by every mutating
+ * operation.
+ *
+ * The case-folded words of the module names are indexed to the codes of the modules whose name contains them, so that
+ * name keyword searches look up a posting list instead of splitting the name of every module. This index is updated
+ * before the backing list, as a predicate filtering the list may look it up when the list notifies its listeners.
+ *
+ * Co-requisite groups are tracked by a {@code CorequisiteGroups} disjoint-set structure, which is the source of the
+ * co-requisites of the modules. Adding, editing or removing a module only updates the modules in the affected
+ * co-requisite groups, rather than every module in the list, and the modules in a group share a single copy of it.
+ *
  * @see Module#isSameModule(Module)
  */
 public class UniqueModuleList implements Iterable<Module> {
 
-    private final ObservableList<Module> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Module> internalList = new BatchedObservableList<>();
     private final ObservableList<Module> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, Module> codeToModuleMap = new HashMap<>();
+    private final Map<Tag, Set<Code>> tagToCodesMap = new HashMap<>();
+    private final Map<String, Set<Code>> nameWordToCodesMap = new HashMap<>();
+    private final Map<Module, Integer> moduleToPositionMap = new IdentityHashMap<>();
+    private final CorequisiteGroups corequisiteGroups = new CorequisiteGroups();
 
     /**
      * Returns true if the list contains an equivalent module as the given argument.
@@ -37,7 +64,16 @@ public class UniqueModuleList implements Iterable<Module> {
     public boolean contains(Module toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameModule);
+        return containsCode(toCheck.getCode());
+    }
+
+    /**
+     * Returns true if the list contains a module with the given module code.
+     */
+    public boolean containsCode(Code toCheck) {
+        requireNonNull(toCheck);
+
+        return codeToModuleMap.containsKey(toCheck);
     }
 
     /**
@@ -46,10 +82,27 @@ public class UniqueModuleList implements Iterable<Module> {
     public Module getModuleByCode(Code toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream()
-                .filter(module -> module.getCode().equals(toCheck))
-                .findFirst()
-                .orElse(null);
+        return codeToModuleMap.get(toCheck);
+    }
+
+    /**
+     * Returns the codes of all modules in the list which have the given {@code tag}.
+     */
+    public Set<Code> getCodesByTag(Tag tag) {
+        requireNonNull(tag);
+
+        Set<Code> codes = tagToCodesMap.get(tag);
+        return codes == null ? Collections.emptySet() : Collections.unmodifiableSet(codes);
+    }
+
+    /**
+     * Returns the codes of all modules in the list whose name contains {@code word}, ignoring case.
+     */
+    public Set<Code> getCodesByNameWord(String word) {
+        requireNonNull(word);
+
+        Set<Code> codes = nameWordToCodesMap.get(Name.foldWord(word));
+        return codes == null ? Collections.emptySet() : Collections.unmodifiableSet(codes);
     }
 
     /**
@@ -62,62 +115,84 @@ public class UniqueModuleList implements Iterable<Module> {
         if (contains(toAdd)) {
             throw new DuplicateModuleException();
         }
+        indexNameWords(toAdd);
         internalList.add(toAdd);
+        moduleToPositionMap.put(toAdd, internalList.size() - 1);
+        index(toAdd);
 
         cascadeAddToModuleCorequisites(toAdd);
     }
 
     /**
-     * Combines all co-requisites linked to current module into one {@code Set<Code>}, and update all linked modules to
-     * have all-corequisites
+     * Merges the co-requisite group of {@code moduleToAdd} with the groups of each of its co-requisites, and updates
+     * all modules in the merged group to have every other code in the group as co-requisites.
      *
-     * @param moduleToAdd
+     * @param moduleToAdd module whose co-requisites are to be linked
      */
     private void cascadeAddToModuleCorequisites(Module moduleToAdd) {
         assert moduleToAdd != null;
 
-        // create a union Set<Code> of co-requisites
-        Code currentCode = moduleToAdd.getCode();
-        Set<Code> currentCorequisites = moduleToAdd.getCorequisites();
-        Set<Code> allCorequisites = new HashSet<>(currentCorequisites);
+        linkCorequisites(moduleToAdd);
+        syncCorequisites(corequisiteGroups.getGroup(moduleToAdd.getCode()));
+    }
 
-        for (Code codeToAdd : currentCorequisites) {
-            Optional<Module> otherModuleOptional = internalUnmodifiableList.stream()
-                    .filter(module -> module.getCode().equals(codeToAdd))
-                    .findFirst();
+    /**
+     * Merges the co-requisite group of {@code module} with the groups of each of its co-requisites.
+     */
+    private void linkCorequisites(Module module) {
+        assert module != null;
 
-            if (otherModuleOptional.isPresent()) {
-                allCorequisites.addAll(otherModuleOptional.get().getCorequisites());
-            }
+        for (Code corequisite : module.getCorequisites()) {
+            corequisiteGroups.union(module.getCode(), corequisite);
         }
+    }
 
-        allCorequisites.add(currentCode);
-
-        // update all co-requisite modules with the union set excluding itself
-        for (Code codeToEditCorequisites : allCorequisites) {
-            Optional<Module> otherModuleOptional = internalUnmodifiableList.stream()
-                    .filter(module -> module.getCode().equals(codeToEditCorequisites))
-                    .findFirst();
-
-            if (otherModuleOptional.isPresent()) {
-                Module otherModule = otherModuleOptional.get();
-                Set<Code> editedOtherCorequisites = new HashSet<>(allCorequisites);
-                editedOtherCorequisites.remove(otherModule.getCode());
-
-                Module editedOtherModule = new Module(
-                        otherModule.getCode(),
-                        otherModule.getName(),
-                        otherModule.getCredits(),
-                        otherModule.getSemesters(),
-                        editedOtherCorequisites,
-                        otherModule.getTags()
-                );
-
-                setModule(otherModule, editedOtherModule, false);
+    /**
+     * Updates every module in the co-requisite groups of the codes in {@code codes} so that its co-requisites are
+     * exactly the other codes in its co-requisite group. Modules whose co-requisites are already up to date are left
+     * untouched. The modules updated in a group share a single copy of the group.
+     */
+    private void syncCorequisites(Set<Code> codes) {
+        assert codes != null;
+
+        Set<Code> syncedCodes = new HashSet<>();
+        for (Code code : codes) {
+            if (syncedCodes.contains(code)) {
+                continue;
+            }
+
+            Set<Code> group = Collections.unmodifiableSet(new HashSet<>(corequisiteGroups.getGroup(code)));
+            syncedCodes.addAll(group);
+            // a group shared by modules only has to be compared with the group once
+            Set<Code> upToDateGroup = null;
+            for (Code member : group) {
+                Module module = getModuleByCode(member);
+                if (module == null) {
+                    continue;
+                }
+
+                Set<Code> moduleGroup = module.getCorequisiteGroup();
+                if (moduleGroup != null && moduleGroup == upToDateGroup) {
+                    continue;
+                }
+                if (isCorequisiteGroup(module, group)) {
+                    upToDateGroup = moduleGroup;
+                    continue;
+                }
+
+                setModule(module, module.withCorequisiteGroup(group), false);
             }
         }
     }
 
+    /**
+     * Returns true if the co-requisites of {@code module} are exactly the codes in {@code group} other than its own.
+     */
+    private static boolean isCorequisiteGroup(Module module, Set<Code> group) {
+        Set<Code> corequisites = module.getCorequisites();
+        return corequisites.size() == group.size() - 1 && group.containsAll(corequisites);
+    }
+
     /**
      * Replaces the module {@code target} in the list with {@code editedModule}.
      * {@code target} must exist in the list.
@@ -138,7 +213,7 @@ public class UniqueModuleList implements Iterable<Module> {
     private void setModule(Module target, Module editedModule, boolean cascade) {
         requireAllNonNull(target, editedModule);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ModuleNotFoundException();
         }
@@ -147,47 +222,24 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
 
-        internalList.set(index, editedModule);
+        unindexNameWords(target);
+        indexNameWords(editedModule);
+        moduleToPositionMap.remove(internalList.set(index, editedModule));
+        moduleToPositionMap.put(editedModule, index);
+        unindex(target);
+        index(editedModule);
 
         if (cascade) {
-            if (!target.getCode().equals(editedModule.getCode())) {
-                cascadeEditToModuleCorequisites(target, editedModule);
+            Set<Code> affectedCodes = new HashSet<>(corequisiteGroups.getGroup(target.getCode()));
+            if (target.getCode().equals(editedModule.getCode())) {
+                corequisiteGroups.remove(target.getCode());
+            } else {
+                corequisiteGroups.rename(target.getCode(), editedModule.getCode());
             }
-            cascadeDeleteToModuleCorequisites(target);
-            cascadeAddToModuleCorequisites(editedModule);
-        }
-    }
+            linkCorequisites(editedModule);
+            affectedCodes.addAll(corequisiteGroups.getGroup(editedModule.getCode()));
 
-    /**
-     * Cascades the edited module code by updating {@code UniqueModuleList} accordingly
-     * @param target module code to edit/find
-     * @param editedModule module code to replace with
-     */
-    private void cascadeEditToModuleCorequisites(Module target, Module editedModule) {
-        assert target != null;
-        assert editedModule != null;
-
-        ObservableList<Module> modules = internalUnmodifiableList;
-        Code codeToEdit = target.getCode();
-        Code editedCode = editedModule.getCode();
-
-        for (Module module : modules) {
-            if (module.getCorequisites().contains(codeToEdit)) {
-                Set<Code> editedCorequisiteCodes = new HashSet<>(module.getCorequisites());
-                editedCorequisiteCodes.remove(codeToEdit);
-                editedCorequisiteCodes.add(editedCode);
-
-                Module editedCorequisiteModule = new Module(
-                        module.getCode(),
-                        module.getName(),
-                        module.getCredits(),
-                        module.getSemesters(),
-                        editedCorequisiteCodes,
-                        module.getTags()
-                );
-
-                setModule(module, editedCorequisiteModule, false);
-            }
+            syncCorequisites(affectedCodes);
         }
     }
 
@@ -198,60 +250,196 @@ public class UniqueModuleList implements Iterable<Module> {
     public void remove(Module toRemove) {
         requireNonNull(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ModuleNotFoundException();
         }
 
-        cascadeDeleteToModuleCorequisites(toRemove);
+        unindexNameWords(toRemove);
+        moduleToPositionMap.remove(internalList.remove(index));
+        reindexPositions(index);
+        unindex(toRemove);
+
+        Set<Code> previousGroup = new HashSet<>(corequisiteGroups.getGroup(toRemove.getCode()));
+        corequisiteGroups.remove(toRemove.getCode());
+        syncCorequisites(previousGroup);
     }
 
     /**
-     * Cascades the deleted module code by removing it from {@code UniqueModuleList} accordingly
-     * @param moduleToDelete module code to delete
+     * Replaces the modules from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code modules},
+     * without cascading any co-requisites. This is used to replay a change previously made to this list, so the
+     * resulting list must not contain duplicate modules.
      */
-    private void cascadeDeleteToModuleCorequisites(Module moduleToDelete) {
-        assert moduleToDelete != null;
-
-        ObservableList<Module> modules = internalUnmodifiableList;
-        Code codeToDelete = moduleToDelete.getCode();
-
-        for (Module module : modules) {
-            if (module.getCorequisites().contains(codeToDelete)) {
-                Set<Code> editedCorequisiteCodes = new HashSet<>(module.getCorequisites());
-                editedCorequisiteCodes.remove(codeToDelete);
-
-                Module editedModule = new Module(
-                        module.getCode(),
-                        module.getName(),
-                        module.getCredits(),
-                        module.getSemesters(),
-                        editedCorequisiteCodes,
-                        module.getTags()
-                );
-
-                setModule(module, editedModule, false);
-            }
+    public void replaceRange(int fromIndex, int toIndex, List<Module> modules) {
+        requireAllNonNull(modules);
+
+        List<Module> replacedModules = new ArrayList<>(internalList.subList(fromIndex, toIndex));
+        replacedModules.forEach(this::unindexNameWords);
+        modules.forEach(this::indexNameWords);
+        CollectionUtil.replaceRange(internalList, fromIndex, toIndex, modules);
+        replacedModules.forEach(moduleToPositionMap::remove);
+        reindexPositions(fromIndex);
+        replacedModules.forEach(this::unindex);
+        modules.forEach(this::index);
+
+        boolean hasCorequisites = Stream.concat(replacedModules.stream(), modules.stream())
+                .anyMatch(module -> !module.getCorequisites().isEmpty());
+        if (hasCorequisites) {
+            rebuildCorequisiteGroups();
         }
     }
 
+    /**
+     * Returns an unmodifiable view of the codes in the same co-requisite group as {@code code}, including
+     * {@code code} itself. The view has to be copied if it is used after this list is modified.
+     */
+    public Set<Code> getCorequisiteGroup(Code code) {
+        requireNonNull(code);
+
+        return corequisiteGroups.getGroup(code);
+    }
+
     public void setModules(UniqueModuleList replacement) {
         requireNonNull(replacement);
 
+        nameWordToCodesMap.clear();
+        replacement.nameWordToCodesMap.forEach((word, codes) -> nameWordToCodesMap.put(word, new HashSet<>(codes)));
         internalList.setAll(replacement.internalList);
+        moduleToPositionMap.clear();
+        reindexPositions(0);
+        codeToModuleMap.clear();
+        codeToModuleMap.putAll(replacement.codeToModuleMap);
+        tagToCodesMap.clear();
+        replacement.tagToCodesMap.forEach((tag, codes) -> tagToCodesMap.put(tag, new HashSet<>(codes)));
+        corequisiteGroups.setGroups(replacement.corequisiteGroups);
     }
 
     /**
      * Replaces the contents of this list with {@code modules}.
      * {@code modules} must not contain duplicate modules.
+     * Only the modules which differ from those with the same code in this list are changed.
      */
     public void setModules(List<Module> modules) {
         requireAllNonNull(modules);
 
-        if (!modulesAreUnique(modules)) {
-            throw new DuplicateModuleException();
+        Set<Code> duplicateCodes = CollectionUtil.findDuplicateKeys(modules, Module::getCode);
+        if (!duplicateCodes.isEmpty()) {
+            throw new DuplicateModuleException(duplicateCodes);
         }
 
-        internalList.setAll(modules);
+        nameWordToCodesMap.clear();
+        modules.forEach(this::indexNameWords);
+        CollectionUtil.setAllByKey(internalList, modules, Module::getCode);
+        rebuildIndexes();
+    }
+
+    /**
+     * Rebuilds the position, module code and tag indexes and the co-requisite groups from the backing list.
+     */
+    private void rebuildIndexes() {
+        moduleToPositionMap.clear();
+        reindexPositions(0);
+        codeToModuleMap.clear();
+        tagToCodesMap.clear();
+        internalList.forEach(this::index);
+        rebuildCorequisiteGroups();
+    }
+
+    /**
+     * Rebuilds the co-requisite groups from the co-requisites of the modules in the backing list.
+     */
+    private void rebuildCorequisiteGroups() {
+        corequisiteGroups.clear();
+        internalList.forEach(this::linkCorequisites);
+    }
+
+    /**
+     * Adds {@code module} to the module code and tag indexes.
+     */
+    private void index(Module module) {
+        codeToModuleMap.put(module.getCode(), module);
+        for (Tag tag : module.getTags()) {
+            tagToCodesMap.computeIfAbsent(tag, unused -> new HashSet<>()).add(module.getCode());
+        }
+    }
+
+    /**
+     * Removes {@code module} from the module code and tag indexes.
+     */
+    private void unindex(Module module) {
+        codeToModuleMap.remove(module.getCode());
+        for (Tag tag : module.getTags()) {
+            Set<Code> codes = tagToCodesMap.get(tag);
+            codes.remove(module.getCode());
+            if (codes.isEmpty()) {
+                tagToCodesMap.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code module} to the name word index.
+     */
+    private void indexNameWords(Module module) {
+        for (String word : module.getName().getFoldedWords()) {
+            nameWordToCodesMap.computeIfAbsent(word, unused -> new HashSet<>()).add(module.getCode());
+        }
+    }
+
+    /**
+     * Removes {@code module} from the name word index.
+     */
+    private void unindexNameWords(Module module) {
+        for (String word : module.getName().getFoldedWords()) {
+            Set<Code> codes = nameWordToCodesMap.get(word);
+            codes.remove(module.getCode());
+            if (codes.isEmpty()) {
+                nameWordToCodesMap.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the position of {@code module} in the backing list, or -1 if it is not in the list.
+     * The position index is looked up by identity, so the backing list is only scanned when {@code module} is an
+     * equal copy of an element of the list.
+     */
+    private int indexOf(Module module) {
+        Integer position = moduleToPositionMap.get(module);
+        return position != null ? position : internalList.indexOf(module);
+    }
+
+    /**
+     * Updates the position index for the elements of the backing list from {@code fromIndex} onwards.
+     */
+    private void reindexPositions(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            moduleToPositionMap.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Starts a batch of modifications to this list. Modifications made until the matching {@link #endBatch()} are
+     * published to the listeners of {@link #asUnmodifiableObservableList()} as a single change.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of modifications started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns the modification stamp of the backing list, which changes whenever the list is modified.
+     *
+     * @see BatchedObservableList#getModificationStamp()
+     */
+    public long getModificationStamp() {
+        return internalList.getModificationStamp();
     }
 
     /**
@@ -277,18 +465,4 @@ public class UniqueModuleList implements Iterable<Module> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code modules} contains only unique modules.
-     */
-    private boolean modulesAreUnique(List<Module> modules) {
-        for (int i = 0; i < modules.size() - 1; i++) {
-            for (int j = i + 1; j < modules.size(); j++) {
-                if (modules.get(i).isSameModule(modules.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -1,5 +1,9 @@
 package pwe.planner.model.module.exceptions;
 
+import static pwe.planner.commons.util.StringUtil.joinStreamAsString;
+
+import java.util.Collection;
+
 /**
  * Signals that the operation will result in duplicate Modules (Modules are considered duplicates if they have the same
  * identity).
@@ -8,4 +12,11 @@ public class DuplicateModuleException extends RuntimeException {
     public DuplicateModuleException() {
         super("Operation would result in duplicate modules");
     }
+
+    /**
+     * Creates the exception for a list in which the given module codes are each shared by more than one element.
+     */
+    public DuplicateModuleException(Collection<?> duplicateCodes) {
+        super("Operation would result in duplicate modules: " + joinStreamAsString(duplicateCodes.stream()));
+    }
 }
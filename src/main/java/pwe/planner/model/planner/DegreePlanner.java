@@ -27,6 +27,9 @@ public class DegreePlanner implements Comparable<DegreePlanner> {
     // Data fields
     private final Set<Code> codes = new HashSet<>();
 
+    // Cached hash code, as the degreePlanner is immutable; 0 if not computed yet
+    private int hashCode;
+
     /**
      * Every field must be present and not null.
      */
@@ -42,6 +45,13 @@ public class DegreePlanner implements Comparable<DegreePlanner> {
         return Collections.unmodifiableSet(codes);
     }
 
+    /**
+     * Returns true if {@code code} is in this degreePlanner.
+     */
+    public boolean containsCode(Code code) {
+        return codes.contains(code);
+    }
+
     public Year getYear() {
         return year;
     }
@@ -79,6 +89,10 @@ public class DegreePlanner implements Comparable<DegreePlanner> {
         }
 
         DegreePlanner otherDegreePlanner = (DegreePlanner) other;
+        if (otherDegreePlanner.hashCode() != hashCode()) {
+            return false;
+        }
+
         return otherDegreePlanner.getYear().equals(getYear())
                 && otherDegreePlanner.getSemester().equals(getSemester())
                 && otherDegreePlanner.getCodes().equals(getCodes());
@@ -86,7 +100,10 @@ public class DegreePlanner implements Comparable<DegreePlanner> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(codes, year, semester);
+        if (hashCode == 0) {
+            hashCode = Objects.hash(codes, year, semester);
+        }
+        return hashCode;
     }
 
     @Override
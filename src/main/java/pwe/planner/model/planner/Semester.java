@@ -3,6 +3,8 @@ package pwe.planner.model.planner;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import pwe.planner.commons.util.WeakInterner;
+
 /**
  * Represents a DegreePlanner's Semester in the degreePlanner list.
  * Guarantees: details are present and not null, field values are validated, immutable.
@@ -18,8 +20,13 @@ public class Semester implements Comparable<Semester> {
     public static final String SEMESTER_VALIDATION_REGEX =
             "[1-4]{1}";
 
+    private static final WeakInterner<Semester> CANONICAL_SEMESTERS =
+            new WeakInterner<>(Semester::new, semester -> semester.plannerSemester);
+
     public final String plannerSemester;
 
+    private final int mask;
+
     /**
      * Constructs a {@code Semester}.
      *
@@ -30,6 +37,28 @@ public class Semester implements Comparable<Semester> {
         checkArgument(isValidSemester(semester), MESSAGE_SEMESTER_CONSTRAINTS);
 
         plannerSemester = semester;
+        mask = 1 << (semester.charAt(0) - '1');
+    }
+
+    /**
+     * Returns the canonical {@code Semester} for {@code semester}, creating it if the value is not in use.
+     * Equal values returned by this method are the same instance, so they share memory and compare by identity.
+     *
+     * @param semester A valid semester.
+     */
+    public static Semester of(String semester) {
+        requireNonNull(semester);
+        checkArgument(isValidSemester(semester), MESSAGE_SEMESTER_CONSTRAINTS);
+
+        return CANONICAL_SEMESTERS.intern(semester);
+    }
+
+    /**
+     * Returns the single-bit mask of this semester, which is unique among all valid semesters.
+     * Masks of several semesters can be combined with bitwise OR to represent a set of semesters.
+     */
+    public int getMask() {
+        return mask;
     }
 
     /**
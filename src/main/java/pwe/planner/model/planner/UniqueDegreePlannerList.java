@@ -3,11 +3,19 @@ package pwe.planner.model.planner;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.util.BatchedObservableList;
+import pwe.planner.commons.util.CollectionUtil;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.planner.exceptions.DegreePlannerNotFoundException;
 import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
@@ -21,14 +29,23 @@ import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
  * the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * Every module code in the list is additionally indexed to the degreePlanner (year and semester) containing it, so
+ * that finding where a module is planned does not require a scan of every degreePlanner. Every year and semester in
+ * the list is likewise indexed to its degreePlanner, so that looking a degreePlanner up by identity does not require
+ * a scan either. Each degreePlanner is also indexed by identity to its position in the list, so that replacing it
+ * does not require an equality scan. The indexes are kept in sync with the backing list by every mutating operation.
  *
  * @see DegreePlanner#isSameDegreePlanner(DegreePlanner)
  */
 public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
 
-    private final ObservableList<DegreePlanner> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<DegreePlanner> internalList = new BatchedObservableList<>();
     private final ObservableList<DegreePlanner> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, DegreePlanner> codeToDegreePlannerMap = new HashMap<>();
+    private final Map<List<Object>, DegreePlanner> identityKeyToDegreePlannerMap = new HashMap<>();
+    private final Map<DegreePlanner, Integer> degreePlannerToPositionMap = new IdentityHashMap<>();
 
     /**
      * Returns true if the list contains an equivalent degree planner as the given argument.
@@ -36,7 +53,17 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public boolean contains(DegreePlanner toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameDegreePlanner);
+        return identityKeyToDegreePlannerMap.containsKey(getIdentityKey(toCheck));
+    }
+
+    /**
+     * Returns the degree planner in the list with the same year and semester as {@code toFind}, or null if there is
+     * no such degree planner.
+     */
+    public DegreePlanner getDegreePlanner(DegreePlanner toFind) {
+        requireNonNull(toFind);
+
+        return identityKeyToDegreePlannerMap.get(getIdentityKey(toFind));
     }
 
     /**
@@ -46,10 +73,16 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public DegreePlanner getDegreePlannerByCode(Code toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream()
-                .filter(degreePlanner -> degreePlanner.getCodes().contains(toCheck))
-                .findFirst()
-                .orElse(null);
+        return codeToDegreePlannerMap.get(toCheck);
+    }
+
+    /**
+     * Returns true if any degree planner in the list contains the given code.
+     */
+    public boolean containsCode(Code toCheck) {
+        requireNonNull(toCheck);
+
+        return codeToDegreePlannerMap.containsKey(toCheck);
     }
 
     /**
@@ -63,6 +96,8 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
             throw new DuplicateDegreePlannerException();
         }
         internalList.add(toAdd);
+        degreePlannerToPositionMap.put(toAdd, internalList.size() - 1);
+        index(toAdd);
     }
 
     /**
@@ -74,7 +109,7 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public void setDegreePlanner(DegreePlanner target, DegreePlanner editedDegreePlanner) {
         requireAllNonNull(target, editedDegreePlanner);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new DegreePlannerNotFoundException();
         }
@@ -83,7 +118,10 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
             throw new DuplicateDegreePlannerException();
         }
 
-        internalList.set(index, editedDegreePlanner);
+        degreePlannerToPositionMap.remove(internalList.set(index, editedDegreePlanner));
+        degreePlannerToPositionMap.put(editedDegreePlanner, index);
+        unindex(target);
+        index(editedDegreePlanner);
     }
 
     /**
@@ -93,29 +131,128 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public void remove(DegreePlanner toRemove) {
         requireNonNull(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new DegreePlannerNotFoundException();
         }
+
+        degreePlannerToPositionMap.remove(internalList.remove(index));
+        reindexPositions(index);
+        unindex(toRemove);
+    }
+
+    /**
+     * Replaces the degreePlanners from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code degreePlanners}. This is used to replay a change previously made to this list, so the resulting list
+     * must not contain duplicate degreePlanners.
+     */
+    public void replaceRange(int fromIndex, int toIndex, List<DegreePlanner> degreePlanners) {
+        requireAllNonNull(degreePlanners);
+
+        List<DegreePlanner> replacedDegreePlanners = new ArrayList<>(internalList.subList(fromIndex, toIndex));
+        CollectionUtil.replaceRange(internalList, fromIndex, toIndex, degreePlanners);
+        replacedDegreePlanners.forEach(degreePlannerToPositionMap::remove);
+        reindexPositions(fromIndex);
+        replacedDegreePlanners.forEach(this::unindex);
+        degreePlanners.forEach(this::index);
     }
 
     public void setDegreePlanners(UniqueDegreePlannerList replacement) {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        degreePlannerToPositionMap.clear();
+        reindexPositions(0);
+        codeToDegreePlannerMap.clear();
+        codeToDegreePlannerMap.putAll(replacement.codeToDegreePlannerMap);
+        identityKeyToDegreePlannerMap.clear();
+        identityKeyToDegreePlannerMap.putAll(replacement.identityKeyToDegreePlannerMap);
     }
 
     /**
      * Replaces the contents of this list with {@code degreePlanners}.
      * {@code degreePlanners} must not contain duplicate degreePlanners.
+     * Only the degreePlanners which differ from those with the same year and semester in this list are changed.
      */
     public void setDegreePlanners(List<DegreePlanner> degreePlanners) {
         requireAllNonNull(degreePlanners);
 
-        if (!degreePlannersAreUnique(degreePlanners)) {
-            throw new DuplicateDegreePlannerException();
+        Set<List<Object>> duplicateKeys =
+                CollectionUtil.findDuplicateKeys(degreePlanners, UniqueDegreePlannerList::getIdentityKey);
+        if (!duplicateKeys.isEmpty()) {
+            throw new DuplicateDegreePlannerException(duplicateKeys);
         }
 
-        internalList.setAll(degreePlanners);
+        degreePlannerToPositionMap.clear();
+        CollectionUtil.setAllByKey(internalList, degreePlanners, UniqueDegreePlannerList::getIdentityKey);
+        reindexPositions(0);
+        codeToDegreePlannerMap.clear();
+        identityKeyToDegreePlannerMap.clear();
+        internalList.forEach(this::index);
+    }
+
+    /**
+     * Maps the year and semester and every code of {@code degreePlanner} to {@code degreePlanner} in the indexes.
+     */
+    private void index(DegreePlanner degreePlanner) {
+        identityKeyToDegreePlannerMap.put(getIdentityKey(degreePlanner), degreePlanner);
+        for (Code code : degreePlanner.getCodes()) {
+            codeToDegreePlannerMap.put(code, degreePlanner);
+        }
+    }
+
+    /**
+     * Removes the year and semester and every code of {@code degreePlanner} that are still mapped to
+     * {@code degreePlanner} from the indexes.
+     */
+    private void unindex(DegreePlanner degreePlanner) {
+        identityKeyToDegreePlannerMap.remove(getIdentityKey(degreePlanner), degreePlanner);
+        for (Code code : degreePlanner.getCodes()) {
+            codeToDegreePlannerMap.remove(code, degreePlanner);
+        }
+    }
+
+    /**
+     * Returns the position of {@code degreePlanner} in the backing list, or -1 if it is not in the list.
+     * The position index is looked up by identity, so the backing list is only scanned when {@code degreePlanner} is
+     * an equal copy of an element of the list.
+     */
+    private int indexOf(DegreePlanner degreePlanner) {
+        Integer position = degreePlannerToPositionMap.get(degreePlanner);
+        return position != null ? position : internalList.indexOf(degreePlanner);
+    }
+
+    /**
+     * Updates the position index for the elements of the backing list from {@code fromIndex} onwards.
+     */
+    private void reindexPositions(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            degreePlannerToPositionMap.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Starts a batch of modifications to this list. Modifications made until the matching {@link #endBatch()} are
+     * published to the listeners of {@link #asUnmodifiableObservableList()} as a single change.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of modifications started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns the modification stamp of the backing list, which changes whenever the list is modified.
+     *
+     * @see BatchedObservableList#getModificationStamp()
+     */
+    public long getModificationStamp() {
+        return internalList.getModificationStamp();
     }
 
     /**
@@ -143,16 +280,12 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     }
 
     /**
-     * Returns true if {@code degreePlanners} contains only unique degreePlanner.
+     * Returns the key identifying {@code degreePlanner}, i.e. its year and semester.
+     * Two degree planners have equal keys if and only if they are the same degree planner.
+     *
+     * @see DegreePlanner#isSameDegreePlanner(DegreePlanner)
      */
-    private boolean degreePlannersAreUnique(List<DegreePlanner> degreePlanners) {
-        for (int i = 0; i < degreePlanners.size() - 1; i++) {
-            for (int j = i + 1; j < degreePlanners.size(); j++) {
-                if (degreePlanners.get(i).isSameDegreePlanner(degreePlanners.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private static List<Object> getIdentityKey(DegreePlanner degreePlanner) {
+        return Arrays.asList(degreePlanner.getYear(), degreePlanner.getSemester());
     }
 }
@@ -3,6 +3,8 @@ package pwe.planner.model.planner;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import pwe.planner.commons.util.WeakInterner;
+
 /**
  * Represents a DegreePlanner's Year in the degreePlanner list.
  * Guarantees: details are present and not null, field values are validated, immutable.
@@ -18,6 +20,8 @@ public class Year implements Comparable<Year> {
     public static final String YEAR_VALIDATION_REGEX =
             "[1-4]{1}";
 
+    private static final WeakInterner<Year> CANONICAL_YEARS = new WeakInterner<>(Year::new, year -> year.year);
+
     public final String year;
 
     /**
@@ -32,6 +36,19 @@ public class Year implements Comparable<Year> {
         this.year = year;
     }
 
+    /**
+     * Returns the canonical {@code Year} for {@code year}, creating it if the value is not in use.
+     * Equal values returned by this method are the same instance, so they share memory and compare by identity.
+     *
+     * @param year A valid year.
+     */
+    public static Year of(String year) {
+        requireNonNull(year);
+        checkArgument(isValidYear(year), MESSAGE_YEAR_CONSTRAINTS);
+
+        return CANONICAL_YEARS.intern(year);
+    }
+
     /**
      * Returns true if a given string is a valid year.
      */
@@ -1,5 +1,9 @@
 package pwe.planner.model.planner.exceptions;
 
+import static pwe.planner.commons.util.StringUtil.joinStreamAsString;
+
+import java.util.Collection;
+
 /**
  * Signals that the operation will result in duplicate DegreePlanners (DegreePlanners are considered duplicates if
  * they have the same identity).
@@ -8,4 +12,11 @@ public class DuplicateDegreePlannerException extends RuntimeException {
     public DuplicateDegreePlannerException() {
         super("Operation would result in duplicate degreePlanners");
     }
+
+    /**
+     * Creates the exception for a list in which the given years and semesters are each shared by more than one element.
+     */
+    public DuplicateDegreePlannerException(Collection<?> duplicateKeys) {
+        super("Operation would result in duplicate degreePlanners: " + joinStreamAsString(duplicateKeys.stream()));
+    }
 }
@@ -25,6 +25,9 @@ public class RequirementCategory {
     private final Credits credits;
     private final Set<Code> codeSet = new HashSet<>();
 
+    // Cached hash code, as the requirement category is immutable; 0 if not computed yet
+    private int hashCode;
+
     /**
      * Every field must be present and not null.
      */
@@ -74,6 +77,15 @@ public class RequirementCategory {
         return codeSetToCheck.stream().anyMatch(codeSet::contains);
     }
 
+    /**
+     * Returns true if {@code code} is in this requirement category.
+     */
+    public boolean containsCode(Code code) {
+        requireNonNull(code);
+
+        return codeSet.contains(code);
+    }
+
     /**
      * Returns true if both requirement in PWE have the same identity and data fields.
      * This defines a stronger notion of equality between two requirement.
@@ -89,6 +101,10 @@ public class RequirementCategory {
         }
 
         RequirementCategory otherRequirementCategory = (RequirementCategory) other;
+        if (otherRequirementCategory.hashCode() != hashCode()) {
+            return false;
+        }
+
         return otherRequirementCategory.getName().equals(getName())
                 && otherRequirementCategory.getCredits().equals(getCredits())
                 && otherRequirementCategory.getCodeSet().equals(getCodeSet());
@@ -96,7 +112,10 @@ public class RequirementCategory {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, credits, codeSet);
+        if (hashCode == 0) {
+            hashCode = Objects.hash(name, credits, codeSet);
+        }
+        return hashCode;
     }
 
     @Override
@@ -3,12 +3,22 @@ package pwe.planner.model.requirement;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import pwe.planner.commons.util.StringUtil;
+import pwe.planner.commons.util.BatchedObservableList;
+import pwe.planner.commons.util.CollectionUtil;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.requirement.exceptions.DuplicateRequirementCategoryException;
 import pwe.planner.model.requirement.exceptions.RequirementCategoryNotFoundException;
@@ -26,15 +36,23 @@ import pwe.planner.model.requirement.exceptions.RequirementCategoryNotFoundExcep
  * exactly
  * the same fields will be removed.
  * <p>
+ * The list also maintains an index from each module code to the requirement category containing it, and an index
+ * from each case-folded requirement category name to the requirement categories with that name, so that lookups by
+ * code or name do not need to scan every requirement category. Each requirement category is also indexed by identity
+ * to its position in the list, so that replacing it does not require an equality scan.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see RequirementCategory#isSameRequirementCategory(RequirementCategory)
  */
 public class UniqueRequirementCategoryList implements Iterable<RequirementCategory> {
 
-    private final ObservableList<RequirementCategory> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<RequirementCategory> internalList = new BatchedObservableList<>();
     private final ObservableList<RequirementCategory> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, RequirementCategory> codeToRequirementCategoryMap = new HashMap<>();
+    private final Map<String, List<RequirementCategory>> foldedNameToRequirementCategoriesMap = new HashMap<>();
+    private final Map<RequirementCategory, Integer> requirementCategoryToPositionMap = new IdentityHashMap<>();
 
     /**
      * Returns true if the list contains an equivalent Name as the given argument.
@@ -42,7 +60,9 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
     public boolean contains(Name toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().map(RequirementCategory::getName).anyMatch(toCheck::equals);
+        List<RequirementCategory> requirementCategories = foldedNameToRequirementCategoriesMap.get(foldName(toCheck));
+        return requirementCategories != null && requirementCategories.stream()
+                .map(RequirementCategory::getName).anyMatch(toCheck::equals);
     }
 
     /**
@@ -51,20 +71,40 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
     public boolean contains(RequirementCategory toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameRequirementCategory);
+        return contains(toCheck.getName());
     }
 
     /**
      * Returns a RequirementCategory object of the requirementCategory in the internalList.
+     * Names are compared case-insensitively, so if several requirement categories match, the first one in the list
+     * is returned.
      */
     public RequirementCategory getRequirementCategory(Name toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream()
-                .filter(requirementCategory -> StringUtil
-                        .compareEqualsIgnoreCase(requirementCategory.getName().toString(), toCheck.toString()))
-                .findFirst()
-                .orElse(null);
+        List<RequirementCategory> requirementCategories = foldedNameToRequirementCategoriesMap.get(foldName(toCheck));
+        if (requirementCategories == null) {
+            return null;
+        }
+        return Collections.min(requirementCategories, Comparator.comparing(requirementCategoryToPositionMap::get));
+    }
+
+    /**
+     * Returns true if the list contains a requirement category which contains {@code code}.
+     */
+    public boolean containsCode(Code code) {
+        requireNonNull(code);
+
+        return codeToRequirementCategoryMap.containsKey(code);
+    }
+
+    /**
+     * Returns the requirement category which contains {@code code}, otherwise returns null.
+     */
+    public RequirementCategory getRequirementCategoryByCode(Code code) {
+        requireNonNull(code);
+
+        return codeToRequirementCategoryMap.get(code);
     }
 
     /**
@@ -78,6 +118,8 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
             throw new DuplicateRequirementCategoryException();
         }
         internalList.add(toAdd);
+        requirementCategoryToPositionMap.put(toAdd, internalList.size() - 1);
+        index(toAdd);
     }
 
     /**
@@ -90,7 +132,7 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
     public void setRequirementCategory(RequirementCategory target, RequirementCategory editedRequirementCategory) {
         requireAllNonNull(target, editedRequirementCategory);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new RequirementCategoryNotFoundException();
         }
@@ -99,7 +141,10 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
             throw new DuplicateRequirementCategoryException();
         }
 
-        internalList.set(index, editedRequirementCategory);
+        requirementCategoryToPositionMap.remove(internalList.set(index, editedRequirementCategory));
+        requirementCategoryToPositionMap.put(editedRequirementCategory, index);
+        unindex(target);
+        index(editedRequirementCategory);
     }
 
     /**
@@ -109,29 +154,109 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
     public void remove(RequirementCategory toRemove) {
         requireNonNull(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new RequirementCategoryNotFoundException();
         }
+
+        requirementCategoryToPositionMap.remove(internalList.remove(index));
+        reindexPositions(index);
+        unindex(toRemove);
+    }
+
+    /**
+     * Replaces the requirements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code requirementCategories}. This is used to replay a change previously made to this list, so the resulting
+     * list must not contain duplicate requirements.
+     */
+    public void replaceRange(int fromIndex, int toIndex, List<RequirementCategory> requirementCategories) {
+        requireAllNonNull(requirementCategories);
+
+        List<RequirementCategory> replacedRequirementCategories =
+                new ArrayList<>(internalList.subList(fromIndex, toIndex));
+        CollectionUtil.replaceRange(internalList, fromIndex, toIndex, requirementCategories);
+        replacedRequirementCategories.forEach(requirementCategoryToPositionMap::remove);
+        reindexPositions(fromIndex);
+        replacedRequirementCategories.forEach(this::unindex);
+        requirementCategories.forEach(this::index);
     }
 
     public void setRequirementCategories(UniqueRequirementCategoryList replacement) {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        requirementCategoryToPositionMap.clear();
+        reindexPositions(0);
+        codeToRequirementCategoryMap.clear();
+        codeToRequirementCategoryMap.putAll(replacement.codeToRequirementCategoryMap);
+        foldedNameToRequirementCategoriesMap.clear();
+        replacement.foldedNameToRequirementCategoriesMap.forEach((foldedName, requirementCategories) ->
+                foldedNameToRequirementCategoriesMap.put(foldedName, new ArrayList<>(requirementCategories)));
     }
 
     /**
      * Replaces the contents of this list with {@code requirement}.
      * {@code requirement} must not contain duplicate requirement.
+     * Only the requirements which differ from those with the same name in this list are changed.
      */
     public void setRequirementCategories(List<RequirementCategory> requirementCategories) {
         requireAllNonNull(requirementCategories);
 
-        if (!requirementCategoriesAreUnique(requirementCategories)) {
-            throw new DuplicateRequirementCategoryException();
+        Set<Name> duplicateNames =
+                CollectionUtil.findDuplicateKeys(requirementCategories, RequirementCategory::getName);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateRequirementCategoryException(duplicateNames);
         }
 
-        internalList.setAll(requirementCategories);
+        requirementCategoryToPositionMap.clear();
+        CollectionUtil.setAllByKey(internalList, requirementCategories, RequirementCategory::getName);
+        reindexPositions(0);
+        codeToRequirementCategoryMap.clear();
+        foldedNameToRequirementCategoriesMap.clear();
+        internalList.forEach(this::index);
+    }
+
+    /**
+     * Returns the position of {@code requirementCategory} in the backing list, or -1 if it is not in the list.
+     * The position index is looked up by identity, so the backing list is only scanned when
+     * {@code requirementCategory} is an equal copy of an element of the list.
+     */
+    private int indexOf(RequirementCategory requirementCategory) {
+        Integer position = requirementCategoryToPositionMap.get(requirementCategory);
+        return position != null ? position : internalList.indexOf(requirementCategory);
+    }
+
+    /**
+     * Updates the position index for the elements of the backing list from {@code fromIndex} onwards.
+     */
+    private void reindexPositions(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            requirementCategoryToPositionMap.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Starts a batch of modifications to this list. Modifications made until the matching {@link #endBatch()} are
+     * published to the listeners of {@link #asUnmodifiableObservableList()} as a single change.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of modifications started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns the modification stamp of the backing list, which changes whenever the list is modified.
+     *
+     * @see BatchedObservableList#getModificationStamp()
+     */
+    public long getModificationStamp() {
+        return internalList.getModificationStamp();
     }
 
     /**
@@ -159,16 +284,36 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
     }
 
     /**
-     * Returns true if {@code requirement} contains only unique requirement modules.
+     * Returns the key used to look up {@code name} in the case-folded name index.
+     * Names are compared case-insensitively, ignoring leading and trailing whitespace.
+     */
+    private static String foldName(Name name) {
+        return name.toString().trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds {@code requirementCategory} to the code and name indexes.
+     * {@code requirementCategory} must already be in {@code internalList}.
+     */
+    private void index(RequirementCategory requirementCategory) {
+        requirementCategory.getCodeSet().forEach(code -> codeToRequirementCategoryMap.put(code, requirementCategory));
+        foldedNameToRequirementCategoriesMap.computeIfAbsent(foldName(requirementCategory.getName()),
+                unused -> new ArrayList<>()).add(requirementCategory);
+    }
+
+    /**
+     * Removes {@code requirementCategory} from the code and name indexes.
+     * {@code requirementCategory} must no longer be in {@code internalList}.
      */
-    private boolean requirementCategoriesAreUnique(List<RequirementCategory> requirementCategories) {
-        for (int i = 0; i < requirementCategories.size() - 1; i++) {
-            for (int j = i + 1; j < requirementCategories.size(); j++) {
-                if (requirementCategories.get(i).isSameRequirementCategory(requirementCategories.get(j))) {
-                    return false;
-                }
-            }
+    private void unindex(RequirementCategory requirementCategory) {
+        requirementCategory.getCodeSet()
+                .forEach(code -> codeToRequirementCategoryMap.remove(code, requirementCategory));
+
+        String foldedName = foldName(requirementCategory.getName());
+        List<RequirementCategory> requirementCategories = foldedNameToRequirementCategoriesMap.get(foldedName);
+        requirementCategories.remove(requirementCategory);
+        if (requirementCategories.isEmpty()) {
+            foldedNameToRequirementCategoriesMap.remove(foldedName);
         }
-        return true;
     }
 }
@@ -1,5 +1,9 @@
 package pwe.planner.model.requirement.exceptions;
 
+import static pwe.planner.commons.util.StringUtil.joinStreamAsString;
+
+import java.util.Collection;
+
 /**
  * Signals that the operation will result in duplicate RequirementCategory (RequirementCategory are considered
  * duplicates if they have the same identity).
@@ -8,4 +12,11 @@ public class DuplicateRequirementCategoryException extends RuntimeException {
     public DuplicateRequirementCategoryException() {
         super("Operation would result in duplicate requirement");
     }
+
+    /**
+     * Creates the exception for a list in which the given names are each shared by more than one element.
+     */
+    public DuplicateRequirementCategoryException(Collection<?> duplicateNames) {
+        super("Operation would result in duplicate requirement: " + joinStreamAsString(duplicateNames.stream()));
+    }
 }
@@ -3,6 +3,8 @@ package pwe.planner.model.tag;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import pwe.planner.commons.util.WeakInterner;
+
 /**
  * Represents a Tag in the application.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +14,8 @@ public class Tag implements Comparable<Tag> {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final WeakInterner<Tag> CANONICAL_TAGS = new WeakInterner<>(Tag::new, tag -> tag.tagName);
+
     public final String tagName;
 
     /**
@@ -26,6 +30,19 @@ public class Tag implements Comparable<Tag> {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} for {@code tagName}, creating it if the value is not in use.
+     * Equal values returned by this method are the same instance, so they share memory and compare by identity.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+
+        return CANONICAL_TAGS.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -16,145 +16,145 @@ import pwe.planner.model.requirement.RequirementCategory;
  */
 public class InitialDataUtil {
     private static final DegreePlanner YEAR_1_SEMESTER_1 = new DegreePlanner(
-            new Year("1"),
-            new Semester("1"),
+            Year.of("1"),
+            Semester.of("1"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_1_SEMESTER_2 = new DegreePlanner(
-            new Year("1"),
-            new Semester("2"),
+            Year.of("1"),
+            Semester.of("2"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_1_SEMESTER_3 = new DegreePlanner(
-            new Year("1"),
-            new Semester("3"),
+            Year.of("1"),
+            Semester.of("3"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_1_SEMESTER_4 = new DegreePlanner(
-            new Year("1"),
-            new Semester("4"),
+            Year.of("1"),
+            Semester.of("4"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_2_SEMESTER_1 = new DegreePlanner(
-            new Year("2"),
-            new Semester("1"),
+            Year.of("2"),
+            Semester.of("1"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_2_SEMESTER_2 = new DegreePlanner(
-            new Year("2"),
-            new Semester("2"),
+            Year.of("2"),
+            Semester.of("2"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_2_SEMESTER_3 = new DegreePlanner(
-            new Year("2"),
-            new Semester("3"),
+            Year.of("2"),
+            Semester.of("3"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_2_SEMESTER_4 = new DegreePlanner(
-            new Year("2"),
-            new Semester("4"),
+            Year.of("2"),
+            Semester.of("4"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_3_SEMESTER_1 = new DegreePlanner(
-            new Year("3"),
-            new Semester("1"),
+            Year.of("3"),
+            Semester.of("1"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_3_SEMESTER_2 = new DegreePlanner(
-            new Year("3"),
-            new Semester("2"),
+            Year.of("3"),
+            Semester.of("2"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_3_SEMESTER_3 = new DegreePlanner(
-            new Year("3"),
-            new Semester("3"),
+            Year.of("3"),
+            Semester.of("3"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_3_SEMESTER_4 = new DegreePlanner(
-            new Year("3"),
-            new Semester("4"),
+            Year.of("3"),
+            Semester.of("4"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_4_SEMESTER_1 = new DegreePlanner(
-            new Year("4"),
-            new Semester("1"),
+            Year.of("4"),
+            Semester.of("1"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_4_SEMESTER_2 = new DegreePlanner(
-            new Year("4"),
-            new Semester("2"),
+            Year.of("4"),
+            Semester.of("2"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_4_SEMESTER_3 = new DegreePlanner(
-            new Year("4"),
-            new Semester("3"),
+            Year.of("4"),
+            Semester.of("3"),
             getCodeSet()
     );
 
     private static final DegreePlanner YEAR_4_SEMESTER_4 = new DegreePlanner(
-            new Year("4"),
-            new Semester("4"),
+            Year.of("4"),
+            Semester.of("4"),
             getCodeSet()
     );
 
     private static final RequirementCategory COMPUTING_FOUNDATION = new RequirementCategory(
             new Name("Computing Foundation"),
-            new Credits("36"),
+            Credits.of("36"),
             getCodeSet()
     );
     private static final RequirementCategory INFORMATION_SECURITY_REQUIREMENTS = new RequirementCategory(
             new Name("Information Security Requirements"),
-            new Credits("20"),
+            Credits.of("20"),
             getCodeSet()
     );
 
     private static final RequirementCategory INFORMATION_SECURITY_ELECTIVES = new RequirementCategory(
             new Name("Information Security Electives"),
-            new Credits("12"),
+            Credits.of("12"),
             getCodeSet()
     );
 
     private static final RequirementCategory COMPUTING_BREADTH = new RequirementCategory(
             new Name("Computing Breadth"),
-            new Credits("20"),
+            Credits.of("20"),
             getCodeSet()
     );
 
     private static final RequirementCategory IT_PROFESSIONALISM = new RequirementCategory(
             new Name("IT Professionalism"),
-            new Credits("8"),
+            Credits.of("8"),
             getCodeSet()
     );
 
     private static final RequirementCategory MATHEMATICS = new RequirementCategory(
             new Name("Mathematics"),
-            new Credits("12"),
+            Credits.of("12"),
             getCodeSet()
     );
 
     private static final RequirementCategory GENERAL_EDUCATION = new RequirementCategory(
             new Name("General Education"),
-            new Credits("20"),
+            Credits.of("20"),
             getCodeSet()
     );
 
     private static final RequirementCategory UNRESTRICTED_ELECTIVES = new RequirementCategory(
             new Name("Unrestricted Electives"),
-            new Credits("32"),
+            Credits.of("32"),
             getCodeSet()
     );
 
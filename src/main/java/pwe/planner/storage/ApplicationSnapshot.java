@@ -0,0 +1,138 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import pwe.planner.model.ApplicationChangeLog;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * An immutable copy of the data of a {@code ReadOnlyApplication} at the time it was taken.
+ * The snapshot can be read from any thread while the application it was taken from keeps changing.
+ *
+ * The modules, degree planners and requirement categories themselves are immutable, so they are shared with the
+ * application rather than copied. The modification stamps of the application's lists are kept, as the snapshot
+ * holds the same versions of those lists, and so are the most recent changes which resulted in those versions.
+ */
+class ApplicationSnapshot implements ReadOnlyApplication {
+
+    private final ObservableList<Module> modules;
+    private final ObservableList<DegreePlanner> degreePlanners;
+    private final ObservableList<RequirementCategory> requirementCategories;
+    private final Map<DegreePlanner, Integer> degreePlannerCredits = new IdentityHashMap<>();
+    private final Map<RequirementCategory, Integer> requirementCategoryCredits = new IdentityHashMap<>();
+    private final long moduleListModificationStamp;
+    private final long degreePlannerListModificationStamp;
+    private final long requirementCategoryListModificationStamp;
+    private final ApplicationChangeLog recentChanges;
+
+    /**
+     * Takes a snapshot of the current data of {@code application}.
+     */
+    ApplicationSnapshot(ReadOnlyApplication application) {
+        requireNonNull(application);
+
+        modules = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(application.getModuleList()));
+        degreePlanners = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(application.getDegreePlannerList()));
+        requirementCategories = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(application.getRequirementCategoryList()));
+        degreePlanners.forEach(degreePlanner ->
+                degreePlannerCredits.put(degreePlanner, application.getTotalCredits(degreePlanner)));
+        requirementCategories.forEach(requirementCategory ->
+                requirementCategoryCredits.put(requirementCategory, application.getTotalCredits(requirementCategory)));
+        moduleListModificationStamp = application.getModuleListModificationStamp();
+        degreePlannerListModificationStamp = application.getDegreePlannerListModificationStamp();
+        requirementCategoryListModificationStamp = application.getRequirementCategoryListModificationStamp();
+        recentChanges = application.getRecentChanges();
+    }
+
+    @Override
+    public ObservableList<Module> getModuleList() {
+        return modules;
+    }
+
+    @Override
+    public ObservableList<DegreePlanner> getDegreePlannerList() {
+        return degreePlanners;
+    }
+
+    @Override
+    public ObservableList<RequirementCategory> getRequirementCategoryList() {
+        return requirementCategories;
+    }
+
+    /**
+     * Returns the total credits of the modules in {@code degreePlanner}, which must be in this snapshot.
+     */
+    @Override
+    public int getTotalCredits(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        return degreePlannerCredits.get(degreePlanner);
+    }
+
+    /**
+     * Returns the total credits of the modules in {@code requirementCategory}, which must be in this snapshot.
+     */
+    @Override
+    public int getTotalCredits(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        return requirementCategoryCredits.get(requirementCategory);
+    }
+
+    @Override
+    public long getModificationStamp() {
+        return Math.max(moduleListModificationStamp,
+                Math.max(degreePlannerListModificationStamp, requirementCategoryListModificationStamp));
+    }
+
+    @Override
+    public long getModuleListModificationStamp() {
+        return moduleListModificationStamp;
+    }
+
+    @Override
+    public long getDegreePlannerListModificationStamp() {
+        return degreePlannerListModificationStamp;
+    }
+
+    @Override
+    public long getRequirementCategoryListModificationStamp() {
+        return requirementCategoryListModificationStamp;
+    }
+
+    /**
+     * Returns the most recent changes taken with the snapshot, which never change.
+     */
+    @Override
+    public ApplicationChangeLog getRecentChanges() {
+        return recentChanges;
+    }
+
+    /**
+     * Does nothing, as a snapshot never changes.
+     */
+    @Override
+    public void addListener(InvalidationListener listener) {
+        requireNonNull(listener);
+    }
+
+    /**
+     * Does nothing, as a snapshot never changes.
+     */
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        requireNonNull(listener);
+    }
+}
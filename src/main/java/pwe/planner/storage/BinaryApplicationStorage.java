@@ -0,0 +1,295 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * A class to store the application in compact binary data files, one for each list.
+ * The format of the data files is described in {@link BinaryListCodec}.
+ */
+public class BinaryApplicationStorage implements ApplicationStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryApplicationStorage.class);
+
+    private Path moduleListFilePath;
+    private Path degreePlannerListFilePath;
+    private Path requirementCategoryListFilePath;
+
+    private final SavedListStamps savedListStamps = new SavedListStamps(this);
+
+    public BinaryApplicationStorage(Path moduleListFilePath, Path degreePlannerListFilePath,
+            Path requirementCategoryListFilePath) {
+        requireAllNonNull(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
+
+        this.moduleListFilePath = moduleListFilePath;
+        this.degreePlannerListFilePath = degreePlannerListFilePath;
+        this.requirementCategoryListFilePath = requirementCategoryListFilePath;
+    }
+
+    /**
+     * Returns the path of the binary data file to use in place of the data file at {@code filePath}, i.e.
+     * {@code filePath} with its extension replaced by {@link #BINARY_FILE_EXTENSION}.
+     */
+    public static Path toBinaryFilePath(Path filePath) {
+        requireNonNull(filePath);
+
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    public Path getModuleListFilePath() {
+        return moduleListFilePath;
+    }
+
+    public Path getDegreePlannerListFilePath() {
+        return degreePlannerListFilePath;
+    }
+
+    public Path getRequirementCategoryListFilePath() {
+        return requirementCategoryListFilePath;
+    }
+
+    /**
+     * Saves the application read from {@code source} to this storage.
+     * Returns false if {@code source} has no application to import, in which case this storage is left unchanged.
+     *
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to this storage.
+     */
+    public boolean importApplication(ApplicationStorage source) throws DataConversionException, IOException {
+        requireNonNull(source);
+
+        Optional<ReadOnlyApplication> application = source.readApplication();
+        if (!application.isPresent()) {
+            return false;
+        }
+        saveApplication(application.get());
+        return true;
+    }
+
+    /**
+     * Saves the application in this storage to {@code target}.
+     * Returns false if this storage has no application to export, in which case {@code target} is left unchanged.
+     *
+     * @throws DataConversionException if the data in this storage is not in the expected format.
+     * @throws IOException if there was any problem reading from this storage or writing to {@code target}.
+     */
+    public boolean exportApplication(ApplicationStorage target) throws DataConversionException, IOException {
+        requireNonNull(target);
+
+        Optional<ReadOnlyApplication> application = readApplication();
+        if (!application.isPresent()) {
+            return false;
+        }
+        target.saveApplication(application.get());
+        return true;
+    }
+
+    /**
+     * Deletes the data files of this storage, if they exist.
+     *
+     * @throws IOException if there was any problem deleting the files.
+     */
+    public void deleteDataFiles() throws IOException {
+        Files.deleteIfExists(moduleListFilePath);
+        Files.deleteIfExists(degreePlannerListFilePath);
+        Files.deleteIfExists(requirementCategoryListFilePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the files of the lists which were modified since they were last saved are rewritten.
+     */
+    @Override
+    public void saveApplication(ReadOnlyApplication application) throws IOException {
+        requireNonNull(application);
+
+        savedListStamps.saveOutdatedLists(application);
+    }
+
+    @Override
+    public Optional<ReadOnlyApplication> readApplication() throws DataConversionException, IOException {
+        return readApplication(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
+    }
+
+    /**
+     * @param moduleListFilePath cannot be null
+     * @param degreePlannerListFilePath cannot be null
+     * @param requirementCategoryListFilePath cannot be null
+     */
+    @Override
+    public Optional<ReadOnlyApplication> readApplication(Path moduleListFilePath, Path degreePlannerListFilePath,
+            Path requirementCategoryListFilePath) throws DataConversionException, IOException {
+        requireAllNonNull(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
+
+        Optional<ObservableList<Module>> modules = readModuleList(moduleListFilePath);
+        Optional<ObservableList<DegreePlanner>> degreePlanners = readDegreePlannerList(degreePlannerListFilePath);
+        Optional<ObservableList<RequirementCategory>> requirementCategories =
+                readRequirementCategoryList(requirementCategoryListFilePath);
+        if (!modules.isPresent() || !degreePlanners.isPresent() || !requirementCategories.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new JsonSerializableApplication(modules.get(), degreePlanners.get(),
+                    requirementCategories.get()).toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + moduleListFilePath + ", " + degreePlannerListFilePath + " and "
+                    + requirementCategoryListFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the contents of the file at {@code filePath} decoded by {@code decoder}, or {@code Optional.empty()}
+     * if the file is not found.
+     */
+    private static <T> Optional<T> readBinaryFile(Path filePath, BinaryDecoder<T> decoder)
+            throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        byte[] data = Files.readAllBytes(filePath);
+        try {
+            return Optional.of(decoder.decode(data));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Writes {@code data} to the file at {@code filePath}, creating the file if it does not exist.
+     */
+    private static void writeBinaryFile(Path filePath, byte[] data) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        Files.write(filePath, data);
+    }
+
+    @Override
+    public Optional<ObservableList<Module>> readModuleList() throws DataConversionException, IOException {
+        return readModuleList(moduleListFilePath);
+    }
+
+    /**
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public Optional<ObservableList<Module>> readModuleList(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        return readBinaryFile(filePath, BinaryListCodec::decodeModules);
+    }
+
+    @Override
+    public void saveModuleList(ReadOnlyApplication application) throws IOException {
+        saveModuleList(application, moduleListFilePath);
+    }
+
+    /**
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveModuleList(ReadOnlyApplication application, Path filePath) throws IOException {
+        requireAllNonNull(application, filePath);
+
+        writeBinaryFile(filePath, BinaryListCodec.encodeModules(application.getModuleList()));
+        savedListStamps.recordModuleListSaved(application, filePath);
+    }
+
+    @Override
+    public Optional<ObservableList<DegreePlanner>> readDegreePlannerList() throws DataConversionException, IOException {
+        return readDegreePlannerList(degreePlannerListFilePath);
+    }
+
+    /**
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public Optional<ObservableList<DegreePlanner>> readDegreePlannerList(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        return readBinaryFile(filePath, BinaryListCodec::decodeDegreePlanners);
+    }
+
+    @Override
+    public void saveDegreePlannerList(ReadOnlyApplication application) throws IOException {
+        saveDegreePlannerList(application, degreePlannerListFilePath);
+    }
+
+    /**
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveDegreePlannerList(ReadOnlyApplication application, Path filePath) throws IOException {
+        requireAllNonNull(application, filePath);
+
+        writeBinaryFile(filePath, BinaryListCodec.encodeDegreePlanners(application.getDegreePlannerList()));
+        savedListStamps.recordDegreePlannerListSaved(application, filePath);
+    }
+
+    @Override
+    public Optional<ObservableList<RequirementCategory>> readRequirementCategoryList()
+            throws DataConversionException, IOException {
+        return readRequirementCategoryList(requirementCategoryListFilePath);
+    }
+
+    /**
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public Optional<ObservableList<RequirementCategory>> readRequirementCategoryList(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        return readBinaryFile(filePath, BinaryListCodec::decodeRequirementCategories);
+    }
+
+    @Override
+    public void saveRequirementCategoryList(ReadOnlyApplication application) throws IOException {
+        saveRequirementCategoryList(application, requirementCategoryListFilePath);
+    }
+
+    /**
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveRequirementCategoryList(ReadOnlyApplication application, Path filePath) throws IOException {
+        requireAllNonNull(application, filePath);
+
+        writeBinaryFile(filePath,
+                BinaryListCodec.encodeRequirementCategories(application.getRequirementCategoryList()));
+        savedListStamps.recordRequirementCategoryListSaved(application, filePath);
+    }
+
+    /**
+     * Decodes the contents of a binary data file.
+     */
+    @FunctionalInterface
+    private interface BinaryDecoder<T> {
+        T decode(byte[] data) throws IllegalValueException;
+    }
+}
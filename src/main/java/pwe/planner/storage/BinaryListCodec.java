@@ -0,0 +1,343 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ObservableList;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * Encodes the lists of an application in a compact binary format, and decodes them back.
+ *
+ * An encoded list consists of a header, a string dictionary, and the elements of the list. The header holds a magic
+ * number, the schema version and the kind of list. The dictionary holds every distinct string in the list once, as
+ * its length in bytes followed by its UTF-8 bytes. The elements hold the same fields as the JSON data files, in the
+ * same order, with every string replaced by its index in the dictionary. All lengths, counts and indexes are unsigned
+ * variable-length integers of 7 bits per byte, least significant bits first.
+ *
+ * Decoded lists are converted to the model through the JSON-friendly adapted classes, so they are checked against
+ * exactly the same data constraints as the JSON data files.
+ */
+class BinaryListCodec {
+
+    public static final String MESSAGE_NOT_BINARY_LIST = "Data is not a binary %1$s list!";
+    public static final String MESSAGE_UNSUPPORTED_SCHEMA_VERSION =
+            "Binary data schema version %1$d is not supported, the latest supported version is %2$d!";
+    public static final String MESSAGE_CORRUPTED_DATA = "Binary data is corrupted!";
+
+    static final int MAGIC_NUMBER = 0x50574542;
+    static final int SCHEMA_VERSION = 1;
+
+    private static final int MAGIC_NUMBER_BYTES = 4;
+    private static final int VARINT_MAX_BYTES = 5;
+
+    /**
+     * The kinds of list that can be encoded.
+     */
+    private enum ListKind {
+        MODULE("module"), DEGREE_PLANNER("degree planner"), REQUIREMENT_CATEGORY("requirement category");
+
+        private final String description;
+
+        ListKind(String description) {
+            this.description = description;
+        }
+    }
+
+    /**
+     * Returns {@code modules} encoded in the binary format.
+     */
+    static byte[] encodeModules(List<Module> modules) {
+        requireNonNull(modules);
+
+        Encoder encoder = new Encoder();
+        encoder.writeCount(modules.size());
+        for (Module module : modules) {
+            encoder.writeString(new JsonAdaptedCode(module.getCode()).getCodeValue());
+            encoder.writeString(new JsonAdaptedName(module.getName()).getNameValue());
+            encoder.writeString(new JsonAdaptedCredits(module.getCredits()).getCreditsValue());
+            encoder.writeCount(module.getSemesters().size());
+            module.getSemesters().forEach(semester ->
+                    encoder.writeString(new JsonAdaptedSemester(semester).getSemesterValue()));
+            encoder.writeCodes(module.getCorequisites());
+            encoder.writeCount(module.getTags().size());
+            module.getTags().forEach(tag -> encoder.writeString(new JsonAdaptedTag(tag).getTagName()));
+        }
+        return encoder.toByteArray(ListKind.MODULE);
+    }
+
+    /**
+     * Returns the modules decoded from {@code data}.
+     *
+     * @throws IllegalValueException if {@code data} is not a valid binary module list.
+     */
+    static ObservableList<Module> decodeModules(byte[] data) throws IllegalValueException {
+        requireNonNull(data);
+
+        Decoder decoder = new Decoder(data, ListKind.MODULE);
+        int moduleCount = decoder.readCount();
+        List<JsonAdaptedModule> modules = new ArrayList<>(moduleCount);
+        for (int i = 0; i < moduleCount; i++) {
+            JsonAdaptedCode code = new JsonAdaptedCode(decoder.readString());
+            JsonAdaptedName name = new JsonAdaptedName(decoder.readString());
+            JsonAdaptedCredits credits = new JsonAdaptedCredits(decoder.readString());
+            List<JsonAdaptedSemester> semesters = new ArrayList<>();
+            for (int semesterCount = decoder.readCount(); semesterCount > 0; semesterCount--) {
+                semesters.add(new JsonAdaptedSemester(decoder.readString()));
+            }
+            List<JsonAdaptedCode> corequisites = decoder.readCodes();
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (int tagCount = decoder.readCount(); tagCount > 0; tagCount--) {
+                tags.add(new JsonAdaptedTag(decoder.readString()));
+            }
+            modules.add(new JsonAdaptedModule(code, name, credits, semesters, corequisites, tags));
+        }
+        decoder.checkFullyRead();
+        return new JsonSerializableModuleList(modules).toModelType();
+    }
+
+    /**
+     * Returns {@code degreePlanners} encoded in the binary format.
+     */
+    static byte[] encodeDegreePlanners(List<DegreePlanner> degreePlanners) {
+        requireNonNull(degreePlanners);
+
+        Encoder encoder = new Encoder();
+        encoder.writeCount(degreePlanners.size());
+        for (DegreePlanner degreePlanner : degreePlanners) {
+            encoder.writeString(new JsonAdaptedYear(degreePlanner.getYear()).getYearValue());
+            encoder.writeString(new JsonAdaptedSemester(degreePlanner.getSemester()).getSemesterValue());
+            encoder.writeCodes(degreePlanner.getCodes());
+        }
+        return encoder.toByteArray(ListKind.DEGREE_PLANNER);
+    }
+
+    /**
+     * Returns the degree planners decoded from {@code data}.
+     *
+     * @throws IllegalValueException if {@code data} is not a valid binary degree planner list.
+     */
+    static ObservableList<DegreePlanner> decodeDegreePlanners(byte[] data) throws IllegalValueException {
+        requireNonNull(data);
+
+        Decoder decoder = new Decoder(data, ListKind.DEGREE_PLANNER);
+        int degreePlannerCount = decoder.readCount();
+        List<JsonAdaptedDegreePlanner> degreePlanners = new ArrayList<>(degreePlannerCount);
+        for (int i = 0; i < degreePlannerCount; i++) {
+            JsonAdaptedYear year = new JsonAdaptedYear(decoder.readString());
+            JsonAdaptedSemester semester = new JsonAdaptedSemester(decoder.readString());
+            degreePlanners.add(new JsonAdaptedDegreePlanner(year, semester, decoder.readCodes()));
+        }
+        decoder.checkFullyRead();
+        return new JsonSerializableDegreePlannerList(degreePlanners).toModelType();
+    }
+
+    /**
+     * Returns {@code requirementCategories} encoded in the binary format.
+     */
+    static byte[] encodeRequirementCategories(List<RequirementCategory> requirementCategories) {
+        requireNonNull(requirementCategories);
+
+        Encoder encoder = new Encoder();
+        encoder.writeCount(requirementCategories.size());
+        for (RequirementCategory requirementCategory : requirementCategories) {
+            encoder.writeString(new JsonAdaptedName(requirementCategory.getName()).getNameValue());
+            encoder.writeString(new JsonAdaptedCredits(requirementCategory.getCredits()).getCreditsValue());
+            encoder.writeCodes(requirementCategory.getCodeSet());
+        }
+        return encoder.toByteArray(ListKind.REQUIREMENT_CATEGORY);
+    }
+
+    /**
+     * Returns the requirement categories decoded from {@code data}.
+     *
+     * @throws IllegalValueException if {@code data} is not a valid binary requirement category list.
+     */
+    static ObservableList<RequirementCategory> decodeRequirementCategories(byte[] data)
+            throws IllegalValueException {
+        requireNonNull(data);
+
+        Decoder decoder = new Decoder(data, ListKind.REQUIREMENT_CATEGORY);
+        int requirementCategoryCount = decoder.readCount();
+        List<JsonAdaptedRequirementCategory> requirementCategories = new ArrayList<>(requirementCategoryCount);
+        for (int i = 0; i < requirementCategoryCount; i++) {
+            JsonAdaptedName name = new JsonAdaptedName(decoder.readString());
+            JsonAdaptedCredits credits = new JsonAdaptedCredits(decoder.readString());
+            requirementCategories.add(new JsonAdaptedRequirementCategory(name, credits, decoder.readCodes()));
+        }
+        decoder.checkFullyRead();
+        return new JsonSerializableRequirementCategoryList(requirementCategories).toModelType();
+    }
+
+    /**
+     * Writes the elements of a list, collecting the strings in them into a dictionary.
+     */
+    private static class Encoder {
+
+        private final Map<String, Integer> stringToIndexMap = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private final ByteArrayOutputStream elements = new ByteArrayOutputStream();
+
+        void writeCount(int count) {
+            writeVarint(elements, count);
+        }
+
+        void writeString(String value) {
+            Integer index = stringToIndexMap.get(value);
+            if (index == null) {
+                index = dictionary.size();
+                stringToIndexMap.put(value, index);
+                dictionary.add(value);
+            }
+            writeVarint(elements, index);
+        }
+
+        void writeCodes(Collection<Code> codes) {
+            writeCount(codes.size());
+            codes.forEach(code -> writeString(new JsonAdaptedCode(code).getCodeValue()));
+        }
+
+        /**
+         * Returns the header, the dictionary and the elements written, for a list of the given {@code kind}.
+         */
+        byte[] toByteArray(ListKind kind) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(elements.size() + 16 * dictionary.size());
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                output.write(MAGIC_NUMBER >>> shift);
+            }
+            writeVarint(output, SCHEMA_VERSION);
+            writeVarint(output, kind.ordinal());
+
+            writeVarint(output, dictionary.size());
+            for (String value : dictionary) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarint(output, bytes.length);
+                output.write(bytes, 0, bytes.length);
+            }
+
+            byte[] elementBytes = elements.toByteArray();
+            output.write(elementBytes, 0, elementBytes.length);
+            return output.toByteArray();
+        }
+
+        private static void writeVarint(ByteArrayOutputStream output, int value) {
+            assert value >= 0;
+
+            while ((value & ~0x7F) != 0) {
+                output.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            output.write(value);
+        }
+    }
+
+    /**
+     * Reads the elements of a list, resolving the strings in them from the dictionary.
+     */
+    private static class Decoder {
+
+        private final byte[] data;
+        private final String[] dictionary;
+        private int position;
+
+        /**
+         * Reads the header and the dictionary of a list of the given {@code kind} from {@code data}.
+         *
+         * @throws IllegalValueException if {@code data} does not hold a list of that kind in a supported version.
+         */
+        Decoder(byte[] data, ListKind kind) throws IllegalValueException {
+            this.data = data;
+
+            int magicNumber = 0;
+            for (int i = 0; i < MAGIC_NUMBER_BYTES && position < data.length; i++) {
+                magicNumber = (magicNumber << 8) | (data[position++] & 0xFF);
+            }
+            if (position < MAGIC_NUMBER_BYTES || magicNumber != MAGIC_NUMBER) {
+                throw new IllegalValueException(String.format(MESSAGE_NOT_BINARY_LIST, kind.description));
+            }
+
+            int schemaVersion = readVarint();
+            if (schemaVersion > SCHEMA_VERSION) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_UNSUPPORTED_SCHEMA_VERSION, schemaVersion, SCHEMA_VERSION));
+            }
+            if (readVarint() != kind.ordinal()) {
+                throw new IllegalValueException(String.format(MESSAGE_NOT_BINARY_LIST, kind.description));
+            }
+
+            dictionary = new String[readCount()];
+            for (int i = 0; i < dictionary.length; i++) {
+                int length = readCount();
+                if (length > data.length - position) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+                }
+                dictionary[i] = new String(data, position, length, StandardCharsets.UTF_8);
+                position += length;
+            }
+        }
+
+        /**
+         * Reads a count, which cannot be more than the number of bytes left, as every counted item takes at least a
+         * byte. This keeps corrupted counts from causing huge allocations.
+         */
+        int readCount() throws IllegalValueException {
+            int count = readVarint();
+            if (count > data.length - position) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+            }
+            return count;
+        }
+
+        String readString() throws IllegalValueException {
+            int index = readVarint();
+            if (index >= dictionary.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+            }
+            return dictionary[index];
+        }
+
+        List<JsonAdaptedCode> readCodes() throws IllegalValueException {
+            int codeCount = readCount();
+            List<JsonAdaptedCode> codes = new ArrayList<>(codeCount);
+            for (int i = 0; i < codeCount; i++) {
+                codes.add(new JsonAdaptedCode(readString()));
+            }
+            return codes;
+        }
+
+        /**
+         * Checks that there is no data left after the elements of the list.
+         */
+        void checkFullyRead() throws IllegalValueException {
+            if (position != data.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+            }
+        }
+
+        private int readVarint() throws IllegalValueException {
+            int value = 0;
+            for (int i = 0; i < VARINT_MAX_BYTES && position < data.length; i++) {
+                byte nextByte = data[position++];
+                value |= (nextByte & 0x7F) << (7 * i);
+                if ((nextByte & 0x80) == 0) {
+                    if (value < 0) {
+                        throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+                    }
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA);
+        }
+    }
+}
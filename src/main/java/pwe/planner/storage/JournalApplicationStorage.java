@@ -0,0 +1,506 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.model.ApplicationDelta;
+import pwe.planner.model.ListChange;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * A {@code JsonApplicationStorage} which appends the changes made to the application to a journal file, instead of
+ * rewriting the JSON data files every time the application is saved.
+ *
+ * The JSON data files hold a snapshot of the application. The journal starts with a header holding a checksum of each
+ * snapshot file, followed by one record per save. Each record holds the changes made to the lists since the previous
+ * save, as compact JSON data preceded by its length and followed by its checksum. The changes are the ones recorded
+ * by the application itself, so the storage keeps no copy of the lists to compare against: if the application saved
+ * no longer knows its changes since the previous save, e.g. as it is not the application previously saved or read,
+ * the journal is compacted instead. Once the journal holds
+ * {@code compactionThreshold} records, the next save compacts it: the snapshot files are rewritten with the whole
+ * application and a new, empty journal replaces the old one.
+ *
+ * Reading the application reads the snapshot and replays the journal on top of it, up to the last complete record.
+ * The changes to a list are only replayed if its snapshot file still has the checksum in the header, as a compaction
+ * interrupted after rewriting that file has already written all of its changes to it.
+ */
+public class JournalApplicationStorage extends JsonApplicationStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalApplicationStorage.class);
+
+    private static final int JOURNAL_MAGIC_NUMBER = 0x504A524E;
+    private static final int HEADER_BYTES = Integer.BYTES + 3 * Long.BYTES;
+
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    // Whether the next save has to compact the journal, and otherwise the modification stamp of the application as of
+    // the last record in the journal
+    private boolean isCompactionNeeded = true;
+    private long journaledStamp;
+    private int journalRecordCount;
+
+    public JournalApplicationStorage(Path moduleListFilePath, Path degreePlannerListFilePath,
+            Path requirementCategoryListFilePath, Path journalFilePath) {
+        this(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath, journalFilePath,
+                DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalApplicationStorage} which compacts its journal once it holds {@code compactionThreshold}
+     * records.
+     */
+    public JournalApplicationStorage(Path moduleListFilePath, Path degreePlannerListFilePath,
+            Path requirementCategoryListFilePath, Path journalFilePath, int compactionThreshold) {
+        super(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
+        requireNonNull(journalFilePath);
+        checkArgument(compactionThreshold > 0, "Compaction threshold should be positive");
+
+        this.journalFilePath = journalFilePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Returns the number of records in the journal since it was last compacted.
+     */
+    public int getJournalRecordCount() {
+        return journalRecordCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The changes made since the last save are appended to the journal, unless the journal has to be compacted.
+     */
+    @Override
+    public void saveApplication(ReadOnlyApplication application) throws IOException {
+        requireNonNull(application);
+
+        if (isCompactionNeeded || journalRecordCount >= compactionThreshold
+                || !FileUtil.isFileExists(journalFilePath)) {
+            compact(application);
+            return;
+        }
+
+        if (application.getModificationStamp() == journaledStamp) {
+            return;
+        }
+
+        Optional<ApplicationDelta> delta = application.getRecentChanges().getChangesSince(journaledStamp);
+        if (!delta.isPresent()) {
+            compact(application);
+            return;
+        }
+
+        appendRecord(delta.get());
+        journalRecordCount++;
+        journaledStamp = application.getModificationStamp();
+    }
+
+    /**
+     * Rewrites the outdated snapshot files with the data in {@code application}, and replaces the journal with an
+     * empty one based on the new snapshot.
+     */
+    private void compact(ReadOnlyApplication application) throws IOException {
+        logger.fine("Compacting journal " + journalFilePath);
+
+        // the old journal is only valid for the old snapshot, so it must not be appended to if the compaction fails
+        isCompactionNeeded = true;
+        super.saveApplication(application);
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        try (DataOutputStream headerStream = new DataOutputStream(header)) {
+            headerStream.writeInt(JOURNAL_MAGIC_NUMBER);
+            headerStream.writeLong(computeChecksum(getModuleListFilePath()));
+            headerStream.writeLong(computeChecksum(getDegreePlannerListFilePath()));
+            headerStream.writeLong(computeChecksum(getRequirementCategoryListFilePath()));
+        }
+
+        // the new journal is written beside the old one and moved over it, so a journal file is always complete
+        Path newJournalFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName() + ".new");
+        FileUtil.createParentDirsOfFile(newJournalFilePath);
+        Files.write(newJournalFilePath, header.toByteArray());
+        Files.move(newJournalFilePath, journalFilePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+        journalRecordCount = 0;
+        setJournaledStamp(application);
+    }
+
+    /**
+     * Rewrites the snapshot files with the journal replayed on top of them and deletes the journal, so that the data
+     * files hold all the data without the journal.
+     * Returns false if there is no journal to merge.
+     *
+     * @throws DataConversionException if the data files or the journal cannot be read.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public boolean mergeJournal() throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return false;
+        }
+
+        Optional<ReadOnlyApplication> application = readApplication();
+        if (application.isPresent()) {
+            super.saveApplication(application.get());
+        }
+        Files.delete(journalFilePath);
+        isCompactionNeeded = true;
+        return true;
+    }
+
+    /**
+     * Appends {@code delta} to the journal as a new record.
+     */
+    private void appendRecord(ApplicationDelta delta) throws IOException {
+        byte[] content = JsonUtil.toCompactJsonString(new JsonAdaptedApplicationDelta(delta))
+                .getBytes(StandardCharsets.UTF_8);
+        CRC32 checksum = new CRC32();
+        checksum.update(content);
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream(content.length + Integer.BYTES + Long.BYTES);
+        try (DataOutputStream recordStream = new DataOutputStream(record)) {
+            recordStream.writeInt(content.length);
+            recordStream.write(content);
+            recordStream.writeLong(checksum.getValue());
+        }
+
+        try (OutputStream journalStream = Files.newOutputStream(journalFilePath, StandardOpenOption.APPEND)) {
+            journalStream.write(record.toByteArray());
+        } catch (IOException ioe) {
+            // a partially written record would be followed by the next one, so the journal must be compacted
+            isCompactionNeeded = true;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Remembers the version of {@code application} as the version as of the last record in the journal, so that the
+     * next save of {@code application} appends its changes since then to the journal.
+     */
+    private void setJournaledStamp(ReadOnlyApplication application) {
+        journaledStamp = application.getModificationStamp();
+        isCompactionNeeded = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The journal is replayed on top of the snapshot files, up to its last complete record.
+     */
+    @Override
+    public Optional<ReadOnlyApplication> readApplication() throws DataConversionException {
+        isCompactionNeeded = true;
+
+        Optional<ObservableList<Module>> optionalModules = super.readModuleList(getModuleListFilePath());
+        Optional<ObservableList<DegreePlanner>> optionalDegreePlanners =
+                super.readDegreePlannerList(getDegreePlannerListFilePath());
+        Optional<ObservableList<RequirementCategory>> optionalRequirementCategories =
+                super.readRequirementCategoryList(getRequirementCategoryListFilePath());
+        if (!optionalModules.isPresent() || !optionalDegreePlanners.isPresent()
+                || !optionalRequirementCategories.isPresent()) {
+            return Optional.empty();
+        }
+
+        ObservableList<Module> modules = FXCollections.observableArrayList(optionalModules.get());
+        ObservableList<DegreePlanner> degreePlanners = FXCollections.observableArrayList(optionalDegreePlanners.get());
+        ObservableList<RequirementCategory> requirementCategories =
+                FXCollections.observableArrayList(optionalRequirementCategories.get());
+        int replayedRecordCount = replayJournal(modules, degreePlanners, requirementCategories);
+
+        ReadOnlyApplication application;
+        try {
+            application = new JsonSerializableApplication(modules, degreePlanners, requirementCategories)
+                    .toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found after replaying " + journalFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (replayedRecordCount >= 0) {
+            journalRecordCount = replayedRecordCount;
+            setJournaledStamp(application);
+        }
+        return Optional.of(application);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the files are the snapshot files of this storage, the journal is replayed on top of them.
+     */
+    @Override
+    public Optional<ReadOnlyApplication> readApplication(Path moduleListFilePath, Path degreePlannerListFilePath,
+            Path requirementCategoryListFilePath) throws DataConversionException {
+        requireAllNonNull(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
+
+        if (moduleListFilePath.equals(getModuleListFilePath())
+                && degreePlannerListFilePath.equals(getDegreePlannerListFilePath())
+                && requirementCategoryListFilePath.equals(getRequirementCategoryListFilePath())) {
+            return readApplication();
+        }
+        return super.readApplication(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
+    }
+
+    /**
+     * Replays the records in the journal on the lists read from the snapshot files, up to the last complete record.
+     * Returns the number of records replayed, or -1 if the journal cannot be appended to, i.e. if it is missing,
+     * incomplete, or not based on the snapshot files.
+     *
+     * @throws DataConversionException if a record cannot be replayed on the lists.
+     */
+    private int replayJournal(List<Module> modules, List<DegreePlanner> degreePlanners,
+            List<RequirementCategory> requirementCategories) throws DataConversionException {
+        ByteBuffer journal;
+        try {
+            if (!FileUtil.isFileExists(journalFilePath)) {
+                return -1;
+            }
+            journal = ByteBuffer.wrap(Files.readAllBytes(journalFilePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            return -1;
+        }
+
+        boolean isModuleListReplayed;
+        boolean isDegreePlannerListReplayed;
+        boolean isRequirementCategoryListReplayed;
+        try {
+            if (journal.remaining() < HEADER_BYTES || journal.getInt() != JOURNAL_MAGIC_NUMBER) {
+                logger.warning("Journal file " + journalFilePath + " has no valid header, ignoring it");
+                return -1;
+            }
+            isModuleListReplayed = journal.getLong() == computeChecksum(getModuleListFilePath());
+            isDegreePlannerListReplayed = journal.getLong() == computeChecksum(getDegreePlannerListFilePath());
+            isRequirementCategoryListReplayed =
+                    journal.getLong() == computeChecksum(getRequirementCategoryListFilePath());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data files: " + ioe);
+            return -1;
+        }
+
+        int replayedRecordCount = 0;
+        Optional<ApplicationDelta> delta;
+        while ((delta = readRecord(journal)).isPresent()) {
+            if (isModuleListReplayed) {
+                applyChanges(modules, delta.get().getModuleChanges());
+            }
+            if (isDegreePlannerListReplayed) {
+                applyChanges(degreePlanners, delta.get().getDegreePlannerChanges());
+            }
+            if (isRequirementCategoryListReplayed) {
+                applyChanges(requirementCategories, delta.get().getRequirementCategoryChanges());
+            }
+            replayedRecordCount++;
+        }
+        logger.info("Replayed " + replayedRecordCount + " records from journal file " + journalFilePath);
+
+        if (journal.hasRemaining()) {
+            logger.warning("Journal file " + journalFilePath + " ends with an incomplete record, ignoring it");
+            return -1;
+        }
+        if (!isModuleListReplayed || !isDegreePlannerListReplayed || !isRequirementCategoryListReplayed) {
+            return -1;
+        }
+        return replayedRecordCount;
+    }
+
+    /**
+     * Reads the next record from {@code journal}.
+     * Returns {@code Optional.empty()} if there are no more complete records, in which case the position of
+     * {@code journal} is left at the start of the incomplete record, if any.
+     */
+    private static Optional<ApplicationDelta> readRecord(ByteBuffer journal) {
+        int recordStart = journal.position();
+        try {
+            int contentLength = journal.getInt();
+            if (contentLength < 0 || contentLength > journal.remaining() - Long.BYTES) {
+                journal.position(recordStart);
+                return Optional.empty();
+            }
+
+            byte[] content = new byte[contentLength];
+            journal.get(content);
+            CRC32 checksum = new CRC32();
+            checksum.update(content);
+            if (journal.getLong() != checksum.getValue()) {
+                journal.position(recordStart);
+                return Optional.empty();
+            }
+
+            return Optional.of(JsonUtil.fromJsonString(new String(content, StandardCharsets.UTF_8),
+                    JsonAdaptedApplicationDelta.class).toModelType());
+        } catch (BufferUnderflowException | IOException | IllegalValueException e) {
+            journal.position(recordStart);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Applies {@code changes} to {@code list}, in order.
+     *
+     * @throws DataConversionException if the elements removed by a change are not in {@code list}.
+     */
+    private static <E> void applyChanges(List<E> list, List<ListChange<E>> changes) throws DataConversionException {
+        for (ListChange<E> change : changes) {
+            int removedTo = change.getFrom() + change.getRemoved().size();
+            if (removedTo > list.size() || !list.subList(change.getFrom(), removedTo).equals(change.getRemoved())) {
+                throw new DataConversionException(
+                        new IllegalValueException("Journal record does not match the data it is replayed on"));
+            }
+
+            list.subList(change.getFrom(), removedTo).clear();
+            list.addAll(change.getFrom(), change.getAdded());
+        }
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the contents of {@code filePath}.
+     */
+    private static long computeChecksum(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        checksum.update(Files.readAllBytes(filePath));
+        return checksum.getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The journal is replayed on top of the snapshot file.
+     */
+    @Override
+    public Optional<ObservableList<Module>> readModuleList() throws DataConversionException {
+        return readApplication().map(ReadOnlyApplication::getModuleList);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code filePath} is the snapshot file of this storage, the journal is replayed on top of it.
+     */
+    @Override
+    public Optional<ObservableList<Module>> readModuleList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        return filePath.equals(getModuleListFilePath()) ? readModuleList() : super.readModuleList(filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The journal is replayed on top of the snapshot file.
+     */
+    @Override
+    public Optional<ObservableList<DegreePlanner>> readDegreePlannerList() throws DataConversionException {
+        return readApplication().map(ReadOnlyApplication::getDegreePlannerList);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code filePath} is the snapshot file of this storage, the journal is replayed on top of it.
+     */
+    @Override
+    public Optional<ObservableList<DegreePlanner>> readDegreePlannerList(Path filePath)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        return filePath.equals(getDegreePlannerListFilePath())
+                ? readDegreePlannerList()
+                : super.readDegreePlannerList(filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The journal is replayed on top of the snapshot file.
+     */
+    @Override
+    public Optional<ObservableList<RequirementCategory>> readRequirementCategoryList() throws DataConversionException {
+        return readApplication().map(ReadOnlyApplication::getRequirementCategoryList);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code filePath} is the snapshot file of this storage, the journal is replayed on top of it.
+     */
+    @Override
+    public Optional<ObservableList<RequirementCategory>> readRequirementCategoryList(Path filePath)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        return filePath.equals(getRequirementCategoryListFilePath())
+                ? readRequirementCategoryList()
+                : super.readRequirementCategoryList(filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code filePath} is the snapshot file of this storage, the journal is compacted on the next save, as its
+     * records for the module list no longer apply.
+     */
+    @Override
+    public void saveModuleList(ReadOnlyApplication application, Path filePath) throws IOException {
+        requireAllNonNull(application, filePath);
+
+        if (filePath.equals(getModuleListFilePath())) {
+            isCompactionNeeded = true;
+        }
+        super.saveModuleList(application, filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code filePath} is the snapshot file of this storage, the journal is compacted on the next save, as its
+     * records for the degree planner list no longer apply.
+     */
+    @Override
+    public void saveDegreePlannerList(ReadOnlyApplication application, Path filePath) throws IOException {
+        requireAllNonNull(application, filePath);
+
+        if (filePath.equals(getDegreePlannerListFilePath())) {
+            isCompactionNeeded = true;
+        }
+        super.saveDegreePlannerList(application, filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code filePath} is the snapshot file of this storage, the journal is compacted on the next save, as its
+     * records for the requirement category list no longer apply.
+     */
+    @Override
+    public void saveRequirementCategoryList(ReadOnlyApplication application, Path filePath) throws IOException {
+        requireAllNonNull(application, filePath);
+
+        if (filePath.equals(getRequirementCategoryListFilePath())) {
+            isCompactionNeeded = true;
+        }
+        super.saveRequirementCategoryList(application, filePath);
+    }
+}
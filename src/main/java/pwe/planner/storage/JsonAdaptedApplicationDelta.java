@@ -0,0 +1,84 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.ApplicationDelta;
+import pwe.planner.model.ListChange;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * Jackson-friendly version of {@link ApplicationDelta}.
+ */
+class JsonAdaptedApplicationDelta {
+
+    private final List<JsonAdaptedListChange<JsonAdaptedModule>> moduleChanges = new ArrayList<>();
+    private final List<JsonAdaptedListChange<JsonAdaptedDegreePlanner>> degreePlannerChanges = new ArrayList<>();
+    private final List<JsonAdaptedListChange<JsonAdaptedRequirementCategory>> requirementCategoryChanges =
+            new ArrayList<>();
+
+    /**
+     * Constructs a {@link JsonAdaptedApplicationDelta} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedApplicationDelta(
+            @JsonProperty("moduleChanges") List<JsonAdaptedListChange<JsonAdaptedModule>> moduleChanges,
+            @JsonProperty("degreePlannerChanges")
+                    List<JsonAdaptedListChange<JsonAdaptedDegreePlanner>> degreePlannerChanges,
+            @JsonProperty("requirementCategoryChanges")
+                    List<JsonAdaptedListChange<JsonAdaptedRequirementCategory>> requirementCategoryChanges) {
+        if (moduleChanges != null) {
+            this.moduleChanges.addAll(moduleChanges);
+        }
+        if (degreePlannerChanges != null) {
+            this.degreePlannerChanges.addAll(degreePlannerChanges);
+        }
+        if (requirementCategoryChanges != null) {
+            this.requirementCategoryChanges.addAll(requirementCategoryChanges);
+        }
+    }
+
+    /**
+     * Converts a given {@link ApplicationDelta} into this class for Jackson use.
+     */
+    public JsonAdaptedApplicationDelta(ApplicationDelta source) {
+        requireNonNull(source);
+
+        for (ListChange<Module> change : source.getModuleChanges()) {
+            moduleChanges.add(new JsonAdaptedListChange<>(change, JsonAdaptedModule::new));
+        }
+        for (ListChange<DegreePlanner> change : source.getDegreePlannerChanges()) {
+            degreePlannerChanges.add(new JsonAdaptedListChange<>(change, JsonAdaptedDegreePlanner::new));
+        }
+        for (ListChange<RequirementCategory> change : source.getRequirementCategoryChanges()) {
+            requirementCategoryChanges.add(new JsonAdaptedListChange<>(change, JsonAdaptedRequirementCategory::new));
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted delta object into the model's {@link ApplicationDelta} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted changes.
+     */
+    public ApplicationDelta toModelType() throws IllegalValueException {
+        ApplicationDelta delta = new ApplicationDelta();
+        for (JsonAdaptedListChange<JsonAdaptedModule> change : moduleChanges) {
+            delta.addModuleChange(change.toModelType(JsonAdaptedModule::toModelType));
+        }
+        for (JsonAdaptedListChange<JsonAdaptedDegreePlanner> change : degreePlannerChanges) {
+            delta.addDegreePlannerChange(change.toModelType(JsonAdaptedDegreePlanner::toModelType));
+        }
+        for (JsonAdaptedListChange<JsonAdaptedRequirementCategory> change : requirementCategoryChanges) {
+            delta.addRequirementCategoryChange(change.toModelType(JsonAdaptedRequirementCategory::toModelType));
+        }
+        return delta;
+    }
+}
@@ -48,7 +48,7 @@ public class JsonAdaptedCode {
         if (!Code.isValidCode(codeValue)) {
             throw new IllegalValueException(Code.MESSAGE_CONSTRAINTS);
         }
-        return new Code(codeValue);
+        return Code.of(codeValue);
     }
 
 }
@@ -0,0 +1,83 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.ListChange;
+
+/**
+ * Jackson-friendly version of {@link ListChange}, holding the Jackson-friendly versions of its elements.
+ */
+class JsonAdaptedListChange<T> {
+
+    public static final String MESSAGE_INVALID_FROM = "List change's from index should not be negative!";
+
+    private final int from;
+    private final List<T> removed = new ArrayList<>();
+    private final List<T> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@link JsonAdaptedListChange} with the given list change details.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("from") int from, @JsonProperty("removed") List<T> removed,
+            @JsonProperty("added") List<T> added) {
+        this.from = from;
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@link ListChange} into this class for Jackson use, adapting each element with
+     * {@code adapter}.
+     */
+    public <E> JsonAdaptedListChange(ListChange<E> source, Function<E, T> adapter) {
+        requireNonNull(source);
+        requireNonNull(adapter);
+
+        from = source.getFrom();
+        source.getRemoved().forEach(element -> removed.add(adapter.apply(element)));
+        source.getAdded().forEach(element -> added.add(adapter.apply(element)));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted list change object into the model's {@link ListChange} object,
+     * converting each element with {@code converter}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted elements.
+     */
+    public <E> ListChange<E> toModelType(ElementConverter<T, E> converter) throws IllegalValueException {
+        if (from < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_FROM);
+        }
+
+        List<E> modelRemoved = new ArrayList<>();
+        for (T element : removed) {
+            modelRemoved.add(converter.toModelType(element));
+        }
+        List<E> modelAdded = new ArrayList<>();
+        for (T element : added) {
+            modelAdded.add(converter.toModelType(element));
+        }
+        return new ListChange<>(from, modelRemoved, modelAdded);
+    }
+
+    /**
+     * Converts a Jackson-friendly adapted element into the model's element.
+     */
+    @FunctionalInterface
+    interface ElementConverter<T, E> {
+        E toModelType(T element) throws IllegalValueException;
+    }
+}
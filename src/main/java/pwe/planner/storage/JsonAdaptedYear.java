@@ -48,7 +48,7 @@ public class JsonAdaptedYear {
         if (!Year.isValidYear(yearValue)) {
             throw new IllegalValueException(Year.MESSAGE_YEAR_CONSTRAINTS);
         }
-        return new Year(yearValue);
+        return Year.of(yearValue);
     }
 
 }
@@ -30,6 +30,8 @@ public class JsonApplicationStorage implements ApplicationStorage {
     private Path degreePlannerListFilePath;
     private Path requirementCategoryListFilePath;
 
+    private final SavedListStamps savedListStamps = new SavedListStamps(this);
+
     public JsonApplicationStorage(Path moduleListFilePath, Path degreePlannerListFilePath,
             Path requirementCategoryListFilePath) {
         requireAllNonNull(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
@@ -51,13 +53,15 @@ public class JsonApplicationStorage implements ApplicationStorage {
         return requirementCategoryListFilePath;
     }
 
+    /**
+     * {@inheritDoc}
+     * Only the files of the lists which were modified since they were last saved are rewritten.
+     */
     @Override
     public void saveApplication(ReadOnlyApplication application) throws IOException {
         requireNonNull(application);
 
-        saveModuleList(application, getModuleListFilePath());
-        saveDegreePlannerList(application, getDegreePlannerListFilePath());
-        saveRequirementCategoryList(application, getRequirementCategoryListFilePath());
+        savedListStamps.saveOutdatedLists(application);
     }
 
     @Override
@@ -144,6 +148,7 @@ public class JsonApplicationStorage implements ApplicationStorage {
 
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableModuleList(application), filePath);
+        savedListStamps.recordModuleListSaved(application, filePath);
     }
 
     @Override
@@ -191,6 +196,7 @@ public class JsonApplicationStorage implements ApplicationStorage {
         JsonSerializableDegreePlannerList serializedDegreePlannerList =
                 new JsonSerializableDegreePlannerList(application.getDegreePlannerList());
         JsonUtil.saveJsonFile(serializedDegreePlannerList, filePath);
+        savedListStamps.recordDegreePlannerListSaved(application, filePath);
     }
 
     @Override
@@ -238,6 +244,7 @@ public class JsonApplicationStorage implements ApplicationStorage {
         JsonSerializableRequirementCategoryList serializedRequirementCategoryList =
                 new JsonSerializableRequirementCategoryList(application.getRequirementCategoryList());
         JsonUtil.saveJsonFile(serializedRequirementCategoryList, filePath);
+        savedListStamps.recordRequirementCategoryListSaved(application, filePath);
     }
 
 }
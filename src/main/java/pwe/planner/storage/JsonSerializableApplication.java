@@ -118,9 +118,8 @@ public class JsonSerializableApplication {
 
                 // 3. Ensure that all modules in degree planners are taken only in semesters the module is offered in.
                 Module module = application.getModuleByCode(code);
-                Set<Semester> semesters = module.getSemesters();
-
-                if (!semesters.contains(degreePlanner.getSemester())) {
+                if (!module.isOfferedIn(degreePlanner.getSemester())) {
+                    Set<Semester> semesters = module.getSemesters();
                     if (semesters.isEmpty()) {
                         throw new IllegalValueException(String.format(
                                 MESSAGE_INVALID_DEGREE_PLANNER_EMPTY_MODULE_SEMESTERS, code, degreePlanner.getYear(),
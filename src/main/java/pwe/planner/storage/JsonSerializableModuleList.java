@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -78,16 +77,14 @@ class JsonSerializableModuleList {
         ObservableList<Module> moduleList = uniqueModuleList.asUnmodifiableObservableList();
         for (Module module : moduleList) {
             for (Code corequisite : module.getCorequisites()) {
-                Optional<Module> corequisiteModuleOptional = moduleList.stream()
-                        .filter(currentModule -> currentModule.getCode().equals(corequisite))
-                        .findFirst();
+                Module corequisiteModule = uniqueModuleList.getModuleByCode(corequisite);
 
                 // Ensure that all module co-requisites refers to existing modules in module list
-                if (!corequisiteModuleOptional.isPresent()) {
+                if (corequisiteModule == null) {
                     throw new IllegalValueException(String.format(MESSAGE_NON_EXISTENT_COREQUISITE, corequisite));
                 }
                 // Ensure that module co-requisites must be two-way (A has B as a co-requisite, and vice versa)
-                if (!corequisiteModuleOptional.get().getCorequisites().contains(module.getCode())) {
+                if (!corequisiteModule.getCorequisites().contains(module.getCode())) {
                     throw new IllegalValueException(String.format(MESSAGE_ONE_WAY_COREQUISITE, module.getCode(),
                             corequisite));
                 }
@@ -0,0 +1,60 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.ApplicationDelta;
+
+/**
+ * An immutable segment of undo history, i.e. a list of {@link ApplicationDelta deltas}, that is serializable to
+ * JSON format.
+ */
+@JsonRootName(value = "deltas")
+class JsonSerializableUndoHistorySegment {
+
+    private final List<JsonAdaptedApplicationDelta> deltas = new ArrayList<>();
+
+    /**
+     * Constructs a {@link JsonSerializableUndoHistorySegment} with the given list of
+     * {@link JsonAdaptedApplicationDelta}.
+     */
+    @JsonCreator
+    public JsonSerializableUndoHistorySegment(@JsonProperty("deltas") List<JsonAdaptedApplicationDelta> deltas) {
+        requireNonNull(deltas);
+
+        this.deltas.addAll(deltas);
+    }
+
+    /**
+     * Converts a given list of {@link ApplicationDelta} into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@link JsonSerializableUndoHistorySegment}.
+     */
+    public static JsonSerializableUndoHistorySegment fromModelType(List<ApplicationDelta> source) {
+        requireNonNull(source);
+
+        return new JsonSerializableUndoHistorySegment(
+                source.stream().map(JsonAdaptedApplicationDelta::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this segment into a list of the model's {@link ApplicationDelta} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<ApplicationDelta> toModelType() throws IllegalValueException {
+        List<ApplicationDelta> modelDeltas = new ArrayList<>();
+        for (JsonAdaptedApplicationDelta delta : deltas) {
+            modelDeltas.add(delta.toModelType());
+        }
+        return modelDeltas;
+    }
+}
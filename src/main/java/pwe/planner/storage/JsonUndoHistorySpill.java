@@ -0,0 +1,111 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.model.ApplicationDelta;
+import pwe.planner.model.UndoHistorySpill;
+
+/**
+ * A class to spill undo history to a file on the hard disk.
+ * Each segment is stored as GZIP-compressed JSON data followed by its length, so the most recently written segment
+ * can be read from the end of the file and removed by truncating the file.
+ */
+public class JsonUndoHistorySpill implements UndoHistorySpill {
+
+    private final Path filePath;
+
+    public JsonUndoHistorySpill(Path filePath) {
+        requireNonNull(filePath);
+
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void pushSegment(List<ApplicationDelta> deltas) throws IOException {
+        requireNonNull(deltas);
+
+        byte[] segment = compress(JsonSerializableUndoHistorySegment.fromModelType(deltas));
+        FileUtil.createIfMissing(filePath);
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            file.seek(file.length());
+            file.write(segment);
+            file.writeInt(segment.length);
+        }
+    }
+
+    @Override
+    public List<ApplicationDelta> popSegment() throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            throw new IOException("Undo history spill file " + filePath + " not found");
+        }
+
+        byte[] segment;
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            long segmentEnd = file.length() - Integer.BYTES;
+            if (segmentEnd < 0) {
+                throw new IOException("Undo history spill file " + filePath + " has no segments");
+            }
+
+            file.seek(segmentEnd);
+            int segmentLength = file.readInt();
+            long segmentStart = segmentEnd - segmentLength;
+            if (segmentLength < 0 || segmentStart < 0) {
+                throw new IOException("Undo history spill file " + filePath + " is corrupted");
+            }
+
+            segment = new byte[segmentLength];
+            file.seek(segmentStart);
+            file.readFully(segment);
+            file.setLength(segmentStart);
+        }
+
+        try {
+            return decompress(segment).toModelType();
+        } catch (IllegalValueException ive) {
+            throw new IOException("Undo history spill file " + filePath + " is corrupted", ive);
+        }
+    }
+
+    @Override
+    public void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Returns {@code segment} as GZIP-compressed JSON data.
+     * The JSON data is compressed as it is written, so it is never held uncompressed in memory.
+     */
+    private static byte[] compress(JsonSerializableUndoHistorySegment segment) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressed)) {
+            JsonUtil.writeJsonStream(gzipStream, segment);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Returns the segment in the GZIP-compressed JSON data {@code compressed}.
+     */
+    private static JsonSerializableUndoHistorySegment decompress(byte[] compressed) throws IOException {
+        try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return JsonUtil.readJsonStream(gzipStream, JsonSerializableUndoHistorySegment.class);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.model.ReadOnlyApplication;
+
+/**
+ * Remembers the modification stamps of the lists last saved to the data files of an {@code ApplicationStorage}, so
+ * that saving the application only rewrites the data files of the lists which were modified since.
+ */
+class SavedListStamps {
+
+    private final ApplicationStorage storage;
+
+    private long moduleListStamp;
+    private long degreePlannerListStamp;
+    private long requirementCategoryListStamp;
+
+    SavedListStamps(ApplicationStorage storage) {
+        requireNonNull(storage);
+
+        this.storage = storage;
+    }
+
+    /**
+     * Saves each list of {@code application} to the data file of {@code storage} for it, if the list was modified
+     * since it was last saved there or if the data file is missing.
+     */
+    void saveOutdatedLists(ReadOnlyApplication application) throws IOException {
+        requireNonNull(application);
+
+        if (isOutdated(storage.getModuleListFilePath(), moduleListStamp,
+                application.getModuleListModificationStamp())) {
+            storage.saveModuleList(application, storage.getModuleListFilePath());
+        }
+        if (isOutdated(storage.getDegreePlannerListFilePath(), degreePlannerListStamp,
+                application.getDegreePlannerListModificationStamp())) {
+            storage.saveDegreePlannerList(application, storage.getDegreePlannerListFilePath());
+        }
+        if (isOutdated(storage.getRequirementCategoryListFilePath(), requirementCategoryListStamp,
+                application.getRequirementCategoryListModificationStamp())) {
+            storage.saveRequirementCategoryList(application, storage.getRequirementCategoryListFilePath());
+        }
+    }
+
+    /**
+     * Returns true if the list with the modification stamp {@code stamp} has to be written to {@code filePath}, given
+     * that the list last written to it had the modification stamp {@code savedStamp}.
+     */
+    private static boolean isOutdated(Path filePath, long savedStamp, long stamp) {
+        return stamp != savedStamp || !FileUtil.isFileExists(filePath);
+    }
+
+    /**
+     * Records that the module list of {@code application} was saved to {@code filePath}.
+     * Saves to files other than the data file of {@code storage} are ignored.
+     */
+    void recordModuleListSaved(ReadOnlyApplication application, Path filePath) {
+        requireAllNonNull(application, filePath);
+
+        if (filePath.equals(storage.getModuleListFilePath())) {
+            moduleListStamp = application.getModuleListModificationStamp();
+        }
+    }
+
+    /**
+     * Records that the degree planner list of {@code application} was saved to {@code filePath}.
+     * Saves to files other than the data file of {@code storage} are ignored.
+     */
+    void recordDegreePlannerListSaved(ReadOnlyApplication application, Path filePath) {
+        requireAllNonNull(application, filePath);
+
+        if (filePath.equals(storage.getDegreePlannerListFilePath())) {
+            degreePlannerListStamp = application.getDegreePlannerListModificationStamp();
+        }
+    }
+
+    /**
+     * Records that the requirement category list of {@code application} was saved to {@code filePath}.
+     * Saves to files other than the data file of {@code storage} are ignored.
+     */
+    void recordRequirementCategoryListSaved(ReadOnlyApplication application, Path filePath) {
+        requireAllNonNull(application, filePath);
+
+        if (filePath.equals(storage.getRequirementCategoryListFilePath())) {
+            requirementCategoryListStamp = application.getRequirementCategoryListModificationStamp();
+        }
+    }
+}
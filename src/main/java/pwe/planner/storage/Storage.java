@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.exceptions.DataConversionException;
 import pwe.planner.model.ReadOnlyApplication;
@@ -31,6 +32,22 @@ public interface Storage extends ApplicationStorage, UserPrefsStorage {
     @Override
     void saveApplication(ReadOnlyApplication application) throws IOException;
 
+    /**
+     * Waits until all saved application data has been written to the storage, writing again the data which failed to
+     * be written earlier.
+     *
+     * @throws IOException if there was any problem writing the data.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Failure of the latest write of the application data which was not made by the calling thread of
+     * {@link #saveApplication(ReadOnlyApplication)}.
+     * null if that write succeeded. The property may be updated from a thread other than the JavaFX application
+     * thread, depending on the storage.
+     */
+    ReadOnlyProperty<IOException> saveFailureProperty();
+
     @Override
     Path getModuleListFilePath();
 
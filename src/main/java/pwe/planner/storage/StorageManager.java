@@ -6,11 +6,18 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.core.LogsCenter;
 import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.StringUtil;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.ReadOnlyUserPrefs;
 import pwe.planner.model.UserPrefs;
@@ -20,6 +27,13 @@ import pwe.planner.model.requirement.RequirementCategory;
 
 /**
  * Manages storage of Application data in local storage.
+ *
+ * In write-behind mode, the application is saved by a single background writer instead of the calling thread.
+ * Each save takes a snapshot of the application and hands it to the writer. Saves made while an earlier snapshot is
+ * still waiting to be written replace that snapshot, so a burst of saves results in one write. A failed write is
+ * published through {@link #saveFailureProperty()} as soon as it happens, on the thread of the failure publisher
+ * given at construction, and its snapshot is written again by the next save or {@link #flush()}. Every other read
+ * or write of the application data first waits for the pending writes, so it sees the latest saved data.
  */
 public class StorageManager implements Storage {
 
@@ -27,13 +41,54 @@ public class StorageManager implements Storage {
     private ApplicationStorage applicationStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // The background writer in write-behind mode, or null if the application is saved by the calling thread
+    private final ExecutorService writer;
+    // The latest snapshot waiting to be written by the writer, if any
+    private ApplicationSnapshot pendingSnapshot;
+    // The latest snapshot which the writer failed to write and which has not been replaced by a later save, if any
+    private ApplicationSnapshot failedSnapshot;
+    // The failure of the latest write by the writer, which saveFailure is updated to through the failure publisher
+    private IOException latestFailure;
+    private final SimpleObjectProperty<IOException> saveFailure = new SimpleObjectProperty<>();
+    private final Executor failurePublisher;
+
     public StorageManager(ApplicationStorage applicationStorage,
             UserPrefsStorage userPrefsStorage) {
+        this(applicationStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} which saves the application in write-behind mode if {@code isWriteBehind}
+     * is true, and updates {@link #saveFailureProperty()} on the writer itself.
+     */
+    public StorageManager(ApplicationStorage applicationStorage, UserPrefsStorage userPrefsStorage,
+            boolean isWriteBehind) {
+        this(applicationStorage, userPrefsStorage, isWriteBehind, Runnable::run);
+    }
+
+    /**
+     * Creates a {@code StorageManager} which saves the application in write-behind mode if {@code isWriteBehind}
+     * is true, and updates {@link #saveFailureProperty()} through {@code failurePublisher}, e.g. on the JavaFX
+     * application thread.
+     */
+    public StorageManager(ApplicationStorage applicationStorage, UserPrefsStorage userPrefsStorage,
+            boolean isWriteBehind, Executor failurePublisher) {
         super();
 
-        requireAllNonNull(applicationStorage, userPrefsStorage);
+        requireAllNonNull(applicationStorage, userPrefsStorage, failurePublisher);
         this.applicationStorage = applicationStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.failurePublisher = failurePublisher;
+        writer = isWriteBehind ? Executors.newSingleThreadExecutor(StorageManager::createWriterThread) : null;
+    }
+
+    /**
+     * Returns the thread of the background writer, which does not keep the application running.
+     */
+    private static Thread createWriterThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "StorageManager writer");
+        thread.setDaemon(true);
+        return thread;
     }
 
     // ================ UserPrefs methods ==============================
@@ -71,6 +126,7 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to read data from file: " + moduleListFilePath);
         logger.fine("Attempting to read data from file: " + degreePlannerListFilePath);
         logger.fine("Attempting to read data from file: " + requirementCategoryListFilePath);
+        awaitPendingWrites();
         return applicationStorage
                 .readApplication(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
     }
@@ -79,9 +135,115 @@ public class StorageManager implements Storage {
     public void saveApplication(ReadOnlyApplication application) throws IOException {
         requireNonNull(application);
 
-        saveModuleList(application, applicationStorage.getModuleListFilePath());
-        saveDegreePlannerList(application, applicationStorage.getDegreePlannerListFilePath());
-        saveRequirementCategoryList(application, applicationStorage.getRequirementCategoryListFilePath());
+        if (writer == null) {
+            writeApplication(application);
+            return;
+        }
+
+        scheduleWrite(new ApplicationSnapshot(application));
+    }
+
+    /**
+     * {@inheritDoc}
+     * In write-behind mode, the snapshot of the last failed write is written again first.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (writer == null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (failedSnapshot != null) {
+                scheduleWrite(failedSnapshot);
+            }
+        }
+        awaitPendingWrites();
+
+        IOException failure;
+        synchronized (this) {
+            failure = latestFailure;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public ReadOnlyProperty<IOException> saveFailureProperty() {
+        return saveFailure;
+    }
+
+    /**
+     * Writes {@code application} to the application storage.
+     */
+    private void writeApplication(ReadOnlyApplication application) throws IOException {
+        logger.fine("Attempting to write data to files: " + applicationStorage.getModuleListFilePath() + ", "
+                + applicationStorage.getDegreePlannerListFilePath() + ", "
+                + applicationStorage.getRequirementCategoryListFilePath());
+        applicationStorage.saveApplication(application);
+    }
+
+    /**
+     * Makes {@code snapshot} the next snapshot to be written by the writer, replacing any snapshot still waiting to
+     * be written or which failed to be written.
+     */
+    private synchronized void scheduleWrite(ApplicationSnapshot snapshot) {
+        boolean isWriteScheduled = pendingSnapshot != null;
+        pendingSnapshot = snapshot;
+        failedSnapshot = null;
+        if (!isWriteScheduled) {
+            writer.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot on the writer, and publishes the outcome through {@link #saveFailureProperty()}.
+     * A snapshot which fails to be written is kept to be written again, unless a later save has replaced it.
+     */
+    private void writePendingSnapshot() {
+        ApplicationSnapshot snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+        }
+
+        IOException failure = null;
+        try {
+            writeApplication(snapshot);
+        } catch (IOException ioe) {
+            logger.severe("Failed to save data in the background " + StringUtil.getDetails(ioe));
+            failure = ioe;
+            synchronized (this) {
+                if (pendingSnapshot == null) {
+                    failedSnapshot = snapshot;
+                }
+            }
+        }
+
+        synchronized (this) {
+            latestFailure = failure;
+        }
+        IOException publishedFailure = failure;
+        failurePublisher.execute(() -> saveFailure.set(publishedFailure));
+    }
+
+    /**
+     * Waits until the writer has written every snapshot saved so far. Does nothing if not in write-behind mode.
+     */
+    private void awaitPendingWrites() throws IOException {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", ie);
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Waiting for the writer should not fail", ee);
+        }
     }
 
 
@@ -102,6 +264,7 @@ public class StorageManager implements Storage {
         requireNonNull(filePath);
 
         logger.fine("Attempting to read data from file: " + filePath);
+        awaitPendingWrites();
         return applicationStorage.readModuleList(filePath);
     }
 
@@ -117,6 +280,7 @@ public class StorageManager implements Storage {
         requireAllNonNull(application, filePath);
 
         logger.fine("Attempting to write to data file: " + filePath);
+        awaitPendingWrites();
         applicationStorage.saveModuleList(application, filePath);
     }
 
@@ -138,6 +302,7 @@ public class StorageManager implements Storage {
         requireNonNull(filePath);
 
         logger.fine("Attempting to read data from file: " + filePath);
+        awaitPendingWrites();
         return applicationStorage.readDegreePlannerList(filePath);
     }
 
@@ -153,6 +318,7 @@ public class StorageManager implements Storage {
         requireAllNonNull(application, filePath);
 
         logger.fine("Attempting to write to data file: " + filePath);
+        awaitPendingWrites();
         applicationStorage.saveDegreePlannerList(application, filePath);
     }
 
@@ -175,6 +341,7 @@ public class StorageManager implements Storage {
         requireNonNull(filePath);
 
         logger.fine("Attempting to read data from file: " + filePath);
+        awaitPendingWrites();
         return applicationStorage.readRequirementCategoryList(filePath);
     }
 
@@ -191,6 +358,7 @@ public class StorageManager implements Storage {
         requireAllNonNull(application, filePath);
 
         logger.fine("Attempting to write to data file: " + filePath);
+        awaitPendingWrites();
         applicationStorage.saveRequirementCategoryList(application, filePath);
     }
 }
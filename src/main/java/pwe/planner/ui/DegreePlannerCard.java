@@ -4,16 +4,17 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import pwe.planner.model.module.Credits;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
 
@@ -43,9 +44,10 @@ public class DegreePlannerCard extends UiPart<Region> {
     @FXML
     private VBox degreePlannerListView;
 
-    public DegreePlannerCard(DegreePlanner degreePlanner, ObservableList<Module> moduleList) {
+    public DegreePlannerCard(DegreePlanner degreePlanner, ReadOnlyApplication application,
+            Function<Code, Module> moduleByCode) {
         super(FXML);
-        requireAllNonNull(degreePlanner, moduleList);
+        requireAllNonNull(degreePlanner, application, moduleByCode);
 
         this.degreePlanner = degreePlanner;
 
@@ -64,11 +66,9 @@ public class DegreePlannerCard extends UiPart<Region> {
         semester.setText(plannerSemesterContent.toString());
 
         List<Module> modulesInDegreePlanner = degreePlanner.getCodes().stream()
-                .map(code -> moduleList.stream().filter(module -> module.getCode().equals(code))
-                        .findFirst().get()).collect(Collectors.toList());
+                .map(moduleByCode).collect(Collectors.toList());
 
-        int currentCredits = modulesInDegreePlanner.stream().map(Module::getCredits).map(Credits::toString)
-                .map(Integer::parseInt).reduce(0, (totalCredits, credit) -> totalCredits + credit);
+        int currentCredits = application.getTotalCredits(degreePlanner);
 
         credits.setText("Total Credits: " + currentCredits + " MCs");
         credits.setPadding(new Insets(0, 0, 0, 5));
@@ -2,11 +2,15 @@ package pwe.planner.ui;
 
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.function.Function;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
 
@@ -16,17 +20,19 @@ import pwe.planner.model.planner.DegreePlanner;
 public class DegreePlannerListPanel extends UiPart<Region> {
 
     private static final String FXML = "DegreePlannerListPanel.fxml";
-    private ObservableList<Module> modules;
+    private ReadOnlyApplication application;
+    private Function<Code, Module> moduleByCode;
 
     @FXML
     private ListView<DegreePlanner> degreePlanners;
 
     public DegreePlannerListPanel(ObservableList<DegreePlanner> degreePlannerList,
-            ObservableList<Module> moduleList) {
+            ReadOnlyApplication application, Function<Code, Module> moduleByCode) {
         super(FXML);
-        requireAllNonNull(degreePlannerList, moduleList);
+        requireAllNonNull(degreePlannerList, application, moduleByCode);
 
-        modules = moduleList;
+        this.application = application;
+        this.moduleByCode = moduleByCode;
         degreePlanners.setItems(degreePlannerList);
         degreePlanners.setCellFactory(listView -> new DegreePlannerViewCell());
     }
@@ -44,7 +50,7 @@ public class DegreePlannerListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DegreePlannerCard(degreePlanner, modules).getRoot());
+                setGraphic(new DegreePlannerCard(degreePlanner, application, moduleByCode).getRoot());
             }
         }
     }
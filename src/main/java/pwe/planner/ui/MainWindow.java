@@ -1,5 +1,7 @@
 package pwe.planner.ui;
 
+import static pwe.planner.logic.LogicManager.FILE_OPS_ERROR_MESSAGE;
+
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -128,14 +130,19 @@ public class MainWindow extends UiPart<Stage> {
         moduleListPanelPlaceholder.getChildren().add(moduleListPanel.getRoot());
 
         degreePlannerListPanel = new DegreePlannerListPanel(logic.getFilteredDegreePlannerList(),
-                logic.getApplication().getModuleList());
+                logic.getApplication(), logic::getModuleByCode);
         degreePlannerListPanelPlaceholder.getChildren().add(degreePlannerListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.saveFailureProperty().addListener((observable, oldFailure, newFailure) -> {
+            if (newFailure != null) {
+                resultDisplay.setFeedbackToUser(FILE_OPS_ERROR_MESSAGE + newFailure);
+            }
+        });
 
         requirementCategoryListPanel = new RequirementCategoryListPanel(logic.getFilteredRequirementCategoryList(),
-                logic.getApplication().getModuleList());
+                logic.getApplication());
         requirementCategoryListPanelPlaceholder.getChildren().add(requirementCategoryListPanel.getRoot());
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getModuleListFilePath(), logic.getApplication());
@@ -7,30 +7,29 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
-import pwe.planner.model.module.Module;
+import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.requirement.RequirementCategory;
 
 /**
  * Panel containing the list of requirement categories to be displayed.
- * This class takes in an ObservableModule list for the sole purpose of having the ObservableModule list as a
- * reference object.
- * As the ObservableRequirementCategory list only contains the module code, the ObservableModule list is necessary
- * to be able to compute the total amount of credits.
+ * This class takes in the application for the sole purpose of having it as a reference object.
+ * As the ObservableRequirementCategory list only contains the module code, the application is necessary
+ * to be able to look up the total amount of credits.
  */
 public class RequirementCategoryListPanel extends UiPart<Region> {
     private static final String FXML = "RequirementCategoryListPanel.fxml";
-    private ObservableList<Module> modules;
+    private ReadOnlyApplication application;
 
 
     @FXML
     private ListView<RequirementCategory> requirementCategories;
 
     public RequirementCategoryListPanel(ObservableList<RequirementCategory> requirementCategoryList,
-            ObservableList<Module> moduleList) {
+            ReadOnlyApplication application) {
         super(FXML);
-        requireAllNonNull(requirementCategoryList, moduleList);
+        requireAllNonNull(requirementCategoryList, application);
 
-        modules = moduleList;
+        this.application = application;
         requirementCategories.setItems(requirementCategoryList);
         requirementCategories.setCellFactory(listView -> new RequirementCategoryViewCell());
     }
@@ -48,7 +47,7 @@ public class RequirementCategoryListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new RequirementCategoryCard(requirementCategory, modules).getRoot());
+                setGraphic(new RequirementCategoryCard(requirementCategory, application).getRoot());
             }
         }
     }
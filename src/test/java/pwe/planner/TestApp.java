@@ -1,6 +1,7 @@
 package pwe.planner;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.function.Supplier;
 
@@ -31,6 +32,10 @@ public class TestApp extends MainApp {
             TestUtil.getFilePathInSandboxFolder("sampleDegreePlannerListData.json");
     public static final Path SAVE_LOCATION_FOR_REQUIREMENT_CATEGORY_LIST_TESTING =
             TestUtil.getFilePathInSandboxFolder("sampleRequirementCategoryListData.json");
+    public static final Path SAVE_LOCATION_FOR_UNDO_HISTORY_SPILL_TESTING =
+            TestUtil.getFilePathInSandboxFolder("undoHistory.spill");
+    public static final Path SAVE_LOCATION_FOR_JOURNAL_TESTING =
+            TestUtil.getFilePathInSandboxFolder("application.journal");
 
     protected static final Path DEFAULT_PREF_FILE_LOCATION_FOR_TESTING =
             TestUtil.getFilePathInSandboxFolder("pref_testing.json");
@@ -50,13 +55,15 @@ public class TestApp extends MainApp {
         this.saveDegreePlannerListFileLocation = saveDegreePlannerListFileLocation;
         this.saveRequirementCategoryListFileLocation = saveRequirementCategoryListFileLocation;
 
-        // If some initial local data has been provided, write those to the file
+        // If some initial local data has been provided, write those to the file, discarding the changes journaled
+        // on top of any previous data
         if (initialDataSupplier.get() != null) {
             JsonApplicationStorage jsonApplicationStorage =
                     new JsonApplicationStorage(saveModuleListFileLocation, saveDegreePlannerListFileLocation,
                             saveRequirementCategoryListFileLocation);
             try {
                 jsonApplicationStorage.saveApplication(initialDataSupplier.get());
+                Files.deleteIfExists(SAVE_LOCATION_FOR_JOURNAL_TESTING);
             } catch (IOException ioe) {
                 throw new AssertionError(ioe);
             }
@@ -83,6 +90,8 @@ public class TestApp extends MainApp {
         userPrefs.setModuleListFilePath(saveModuleListFileLocation);
         userPrefs.setRequirementCategoryListFilePath(saveRequirementCategoryListFileLocation);
         userPrefs.setDegreePlannerListFilePath(saveDegreePlannerListFileLocation);
+        userPrefs.setUndoHistorySpillFilePath(SAVE_LOCATION_FOR_UNDO_HISTORY_SPILL_TESTING);
+        userPrefs.setJournalFilePath(SAVE_LOCATION_FOR_JOURNAL_TESTING);
         return userPrefs;
     }
 
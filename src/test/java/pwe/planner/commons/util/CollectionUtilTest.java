@@ -1,9 +1,11 @@
 package pwe.planner.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -11,6 +13,10 @@ import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
 public class CollectionUtilTest {
     @Test
     public void requireAllNonNullVarargs() {
@@ -81,6 +87,78 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void findDuplicateKeys() {
+        // no duplicates
+        assertEquals(Collections.emptySet(), CollectionUtil.findDuplicateKeys(Collections.emptyList(), key -> key));
+        assertEquals(Collections.emptySet(),
+                CollectionUtil.findDuplicateKeys(Arrays.asList("a1", "b1", "c1"), element -> element.charAt(0)));
+
+        // duplicates -> every duplicate key reported once, in order of its first duplicate
+        assertEquals(Arrays.asList('c', 'a'), new ArrayList<>(CollectionUtil.findDuplicateKeys(
+                Arrays.asList("a1", "c1", "b1", "c2", "a2", "a3"), element -> element.charAt(0))));
+    }
+
+    @Test
+    public void replaceRange() {
+        // same number of elements -> elements replaced in place
+        assertReplaceRangeResult(Arrays.asList("a", "x", "y", "d"), 1, 3, Arrays.asList("x", "y"));
+
+        // fewer elements -> extra elements removed
+        assertReplaceRangeResult(Arrays.asList("a", "x", "d"), 1, 3, Arrays.asList("x"));
+        assertReplaceRangeResult(Arrays.asList("a", "d"), 1, 3, Collections.emptyList());
+
+        // more elements -> extra elements inserted
+        assertReplaceRangeResult(Arrays.asList("a", "x", "y", "z", "d"), 1, 3, Arrays.asList("x", "y", "z"));
+        assertReplaceRangeResult(Arrays.asList("a", "b", "c", "x", "d"), 3, 3, Arrays.asList("x"));
+    }
+
+    @Test
+    public void setAllByKey() {
+        // few elements differ -> only those elements changed
+        assertSetAllByKeyResult(Arrays.asList("a1", "b2", "c1", "d1", "e1"), Collections.singletonList("b1"));
+        assertSetAllByKeyResult(Arrays.asList("a1", "c1", "d1"), Collections.singletonList("b1"));
+        assertSetAllByKeyResult(Arrays.asList("x1", "a1", "b1", "c1", "d1"), Collections.emptyList());
+        assertSetAllByKeyResult(Arrays.asList("a1", "b1", "c1", "d1"), Collections.emptyList());
+
+        // elements in a different order -> all elements replaced
+        assertSetAllByKeyResult(Arrays.asList("d1", "c1", "b1", "a1"), Arrays.asList("a1", "b1", "c1", "d1"));
+
+        // most elements differ -> all elements replaced
+        assertSetAllByKeyResult(Arrays.asList("a2", "b2", "c2"), Arrays.asList("a1", "b1", "c1", "d1"));
+        assertSetAllByKeyResult(Collections.emptyList(), Arrays.asList("a1", "b1", "c1", "d1"));
+    }
+
+    /**
+     * Asserts that replacing the contents of the list {@code a1, b1, c1, d1} with {@code elements}, keyed by their
+     * first character, results in {@code elements} and removes exactly {@code expectedRemovedElements}.
+     */
+    private void assertSetAllByKeyResult(List<String> elements, List<String> expectedRemovedElements) {
+        ObservableList<String> list = FXCollections.observableArrayList("a1", "b1", "c1", "d1");
+        List<String> removedElements = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removedElements.addAll(change.getRemoved());
+            }
+        });
+
+        CollectionUtil.setAllByKey(list, elements, element -> element.charAt(0));
+        assertEquals(elements, list);
+        Collections.sort(removedElements);
+        assertEquals(expectedRemovedElements, removedElements);
+    }
+
+    /**
+     * Asserts that replacing the elements from {@code fromIndex} to {@code toIndex} of the list {@code a, b, c, d}
+     * with {@code replacement} results in {@code expectedList}.
+     */
+    private void assertReplaceRangeResult(List<String> expectedList, int fromIndex, int toIndex,
+            List<String> replacement) {
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b", "c", "d"));
+        CollectionUtil.replaceRange(list, fromIndex, toIndex, replacement);
+        assertEquals(expectedList, list);
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
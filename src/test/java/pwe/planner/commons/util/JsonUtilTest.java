@@ -1,12 +1,19 @@
 package pwe.planner.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static pwe.planner.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Collections;
 
 import org.junit.Test;
 
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+
 import pwe.planner.testutil.SerializableTestClass;
 import pwe.planner.testutil.TestUtil;
 
@@ -27,6 +34,16 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void serializeObjectToJsonFile_serializationFails_fileUnchanged() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        // objects without serializable fields cannot be converted to JSON
+        assertThrows(InvalidDefinitionException.class, () -> JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE,
+                Collections.singletonMap("key", new Object())));
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
@@ -39,6 +56,24 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void writeThenReadJsonStream_correctObject() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        JsonUtil.writeJsonStream(outputStream, serializableTestClass);
+        outputStream.write('\n'); // the stream is left open
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION + "\n",
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+
+        SerializableTestClass readSerializableTestClass = JsonUtil.readJsonStream(
+                new ByteArrayInputStream(outputStream.toByteArray()), SerializableTestClass.class);
+        assertEquals(readSerializableTestClass.getName(), SerializableTestClass.getNameTestValue());
+        assertEquals(readSerializableTestClass.getListOfLocalDateTimes(), SerializableTestClass.getListTestValues());
+        assertEquals(readSerializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
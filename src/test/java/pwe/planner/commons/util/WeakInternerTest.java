@@ -0,0 +1,50 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import pwe.planner.testutil.Assert;
+
+public class WeakInternerTest {
+    private final WeakInterner<Value> weakInterner = new WeakInterner<>(Value::new, value -> value.key);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new WeakInterner<Value>(null, value -> value.key));
+        Assert.assertThrows(NullPointerException.class, () -> new WeakInterner<>(Value::new, null));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> weakInterner.intern(null));
+    }
+
+    @Test
+    public void intern_valueInUse_returnsSameInstance() {
+        Value value = weakInterner.intern("value");
+        assertEquals("value", value.key);
+        assertSame(value, weakInterner.intern(new String("value")));
+    }
+
+    @Test
+    public void intern_differentKeys_returnsDifferentInstances() {
+        Value value = weakInterner.intern("value");
+        Value otherValue = weakInterner.intern("otherValue");
+        assertNotSame(value, otherValue);
+        assertEquals("otherValue", otherValue.key);
+    }
+
+    /**
+     * A value identified by its key.
+     */
+    private static class Value {
+        private final String key;
+
+        Value(String key) {
+            this.key = key;
+        }
+    }
+}
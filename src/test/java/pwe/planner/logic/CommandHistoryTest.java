@@ -6,10 +6,13 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import pwe.planner.commons.core.index.Index;
+
 public class CommandHistoryTest {
     private CommandHistory history;
 
@@ -36,6 +39,20 @@ public class CommandHistoryTest {
         assertEquals(Arrays.asList(validCommand, invalidCommand), history.getHistory());
     }
 
+    @Test
+    public void getApplicationStateIdBefore() {
+        history.add("delete 1", 3);
+        history.add("list");
+
+        assertEquals(Optional.of(3L), history.getApplicationStateIdBefore(Index.fromOneBased(1)));
+
+        // state unknown -> returns empty
+        assertEquals(Optional.empty(), history.getApplicationStateIdBefore(Index.fromOneBased(2)));
+
+        // no such command -> returns empty
+        assertEquals(Optional.empty(), history.getApplicationStateIdBefore(Index.fromOneBased(3)));
+    }
+
     @Test
     public void equals() {
         final CommandHistory commandHistoryWithA = new CommandHistory();
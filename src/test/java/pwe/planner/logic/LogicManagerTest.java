@@ -1,6 +1,7 @@
 package pwe.planner.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX;
 import static pwe.planner.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static pwe.planner.logic.commands.CommandTestUtil.CODE_DESC_AMY;
@@ -33,6 +34,7 @@ import pwe.planner.model.Model;
 import pwe.planner.model.ModelManager;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.UserPrefs;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.storage.JsonApplicationStorage;
 import pwe.planner.storage.JsonUserPrefsStorage;
@@ -116,6 +118,13 @@ public class LogicManagerTest {
         assertHistoryCorrect(addCommand);
     }
 
+    @Test
+    public void getModuleByCode() {
+        model.addModule(AMY);
+        assertEquals(AMY, logic.getModuleByCode(AMY.getCode()));
+        assertNull(logic.getModuleByCode(new Code("CS9999")));
+    }
+
     @Test
     public void getFilteredModuleList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -193,7 +202,8 @@ public class LogicManagerTest {
                             .sorted(Collections.reverseOrder())
                             .map(command -> "- " + command)
                             .collect(Collectors.joining("\n"))
-            );
+            ) + "\n\n" + String.format(HistoryCommand.MESSAGE_UNDO_HISTORY, model.getUndoHistorySize(),
+                    model.getSpilledUndoHistorySize(), model.getEstimatedUndoHistoryBytes() / 1024);
             assertEquals(expectedMessage, result.getFeedbackToUser());
         } catch (ParseException | CommandException e) {
             throw new AssertionError("Parsing and execution of HistoryCommand.COMMAND_WORD should succeed.", e);
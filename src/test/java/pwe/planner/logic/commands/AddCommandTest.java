@@ -8,6 +8,8 @@ import static org.junit.Assert.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -28,6 +30,7 @@ import pwe.planner.model.module.Module;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.tag.Tag;
 import pwe.planner.testutil.ModuleBuilder;
 
 public class AddCommandTest {
@@ -196,6 +199,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void resetRequirement() {
             throw new AssertionError("This method should not be called.");
@@ -211,6 +224,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Code> getModuleCodesByTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Code> getModuleCodesByNameWord(String word) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasModuleCode(Code code) {
             throw new AssertionError("This method should not be called.");
@@ -261,6 +284,51 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean canUndoApplication(int steps) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoApplication(int steps) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoApplication(int steps) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoApplication(int steps) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getApplicationStateId() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OptionalInt getUndoStepsToApplicationState(long stateId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getUndoHistorySize() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getSpilledUndoHistorySize() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getEstimatedUndoHistoryBytes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void commitApplication() {
             throw new AssertionError("This method should not be called.");
@@ -337,6 +405,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public RequirementCategory getRequirementCategoryByCode(Code code) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addRequirementCategory(RequirementCategory requirementCategory) {
             //ToDo: implement error check
@@ -1,12 +1,18 @@
 package pwe.planner.logic.commands;
 
 import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static pwe.planner.logic.commands.CommandTestUtil.deleteFirstModule;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BENSON;
 
 import org.junit.Test;
 
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.model.Model;
 import pwe.planner.model.ModelManager;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.UserPrefs;
+import pwe.planner.testutil.ApplicationBuilder;
 
 public class HistoryCommandTest {
     private CommandHistory history = new CommandHistory();
@@ -15,12 +21,13 @@ public class HistoryCommandTest {
 
     @Test
     public void execute() {
-        assertCommandSuccess(new HistoryCommand(), model, history, HistoryCommand.MESSAGE_NO_HISTORY, expectedModel);
+        assertCommandSuccess(new HistoryCommand(), model, history,
+                withEmptyUndoHistory(HistoryCommand.MESSAGE_NO_HISTORY), expectedModel);
 
         String command1 = "clear";
         history.add(command1);
         assertCommandSuccess(new HistoryCommand(), model, history,
-                String.format(HistoryCommand.MESSAGE_SUCCESS, "- " + command1), expectedModel);
+                withEmptyUndoHistory(String.format(HistoryCommand.MESSAGE_SUCCESS, "- " + command1)), expectedModel);
 
         String command2 = "randomCommand";
         String command3 = "select 1";
@@ -29,7 +36,38 @@ public class HistoryCommandTest {
 
         String expectedMessage = String.format(HistoryCommand.MESSAGE_SUCCESS,
                 String.join("\n", "- " + command3, "- " + command2, "- " + command1));
-        assertCommandSuccess(new HistoryCommand(), model, history, expectedMessage, expectedModel);
+        assertCommandSuccess(new HistoryCommand(), model, history, withEmptyUndoHistory(expectedMessage),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_committedStates_undoHistoryShown() {
+        Model modelWithHistory = new ModelManager(getApplicationWithAliceAndBenson(), new UserPrefs());
+        deleteFirstModule(modelWithHistory);
+        deleteFirstModule(modelWithHistory);
+        modelWithHistory.undoApplication();
+
+        Model expectedModelWithHistory = new ModelManager(getApplicationWithAliceAndBenson(), new UserPrefs());
+        deleteFirstModule(expectedModelWithHistory);
+        deleteFirstModule(expectedModelWithHistory);
+        expectedModelWithHistory.undoApplication();
+
+        // undone states are still part of the undo history
+        String expectedMessage = HistoryCommand.MESSAGE_NO_HISTORY + "\n\n" + String.format(
+                HistoryCommand.MESSAGE_UNDO_HISTORY, 2, 0, modelWithHistory.getEstimatedUndoHistoryBytes() / 1024);
+        assertCommandSuccess(new HistoryCommand(), modelWithHistory, history, expectedMessage,
+                expectedModelWithHistory);
+    }
+
+    private static ReadOnlyApplication getApplicationWithAliceAndBenson() {
+        return new ApplicationBuilder().withModule(ALICE).withModule(BENSON).build();
+    }
+
+    /**
+     * Returns {@code message} followed by the size of an empty undo history.
+     */
+    private static String withEmptyUndoHistory(String message) {
+        return message + "\n\n" + String.format(HistoryCommand.MESSAGE_UNDO_HISTORY, 0, 0, 0);
     }
 
 }
@@ -1,5 +1,7 @@
 package pwe.planner.logic.commands;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static pwe.planner.logic.commands.CommandTestUtil.assertCommandFailure;
 import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static pwe.planner.logic.commands.CommandTestUtil.deleteFirstModule;
@@ -58,4 +60,29 @@ public class RedoCommandTest {
         // no redoable state in model
         assertCommandFailure(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_multipleSteps() {
+        // more steps than redoable states in model
+        assertCommandFailure(new RedoCommand(3), model, commandHistory, RedoCommand.MESSAGE_FAILURE);
+
+        // as many steps as redoable states in model
+        expectedModel.redoApplication();
+        expectedModel.redoApplication();
+        assertCommandSuccess(new RedoCommand(2), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoOneCommand = new RedoCommand();
+
+        // same values -> returns true
+        assertTrue(redoOneCommand.equals(new RedoCommand(1)));
+
+        // different steps -> returns false
+        assertFalse(redoOneCommand.equals(new RedoCommand(2)));
+
+        // different types -> returns false
+        assertFalse(redoOneCommand.equals(1));
+    }
 }
@@ -1,5 +1,7 @@
 package pwe.planner.logic.commands;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static pwe.planner.logic.commands.CommandTestUtil.assertCommandFailure;
 import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static pwe.planner.logic.commands.CommandTestUtil.deleteFirstModule;
@@ -7,13 +9,19 @@ import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlanner
 import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
 import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
+import java.io.IOException;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 
+import pwe.planner.commons.core.index.Index;
 import pwe.planner.commons.exceptions.IllegalValueException;
 import pwe.planner.logic.CommandHistory;
+import pwe.planner.model.ApplicationDelta;
 import pwe.planner.model.Model;
 import pwe.planner.model.ModelManager;
+import pwe.planner.model.UndoHistorySpill;
 import pwe.planner.model.UserPrefs;
 import pwe.planner.storage.JsonSerializableApplication;
 
@@ -53,4 +61,95 @@ public class UndoCommandTest {
         // no undoable states in model
         assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_multipleSteps() {
+        // more steps than undoable states in model
+        assertCommandFailure(new UndoCommand(3), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
+
+        // as many steps as undoable states in model
+        expectedModel.undoApplication();
+        expectedModel.undoApplication();
+        assertCommandSuccess(new UndoCommand(2), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_commandNumber() {
+        CommandHistory history = new CommandHistory();
+        history.add("delete 1", model.getApplicationStateId());
+        deleteFirstModule(model);
+        history.add("delete 1", model.getApplicationStateId());
+        deleteFirstModule(model);
+        history.add("history");
+
+        // no state recorded for command -> command fails
+        assertCommandFailure(new UndoCommand(Index.fromOneBased(3)), model, history,
+                String.format(UndoCommand.MESSAGE_INVALID_COMMAND_NUMBER, 3));
+
+        // no such command -> command fails
+        assertCommandFailure(new UndoCommand(Index.fromOneBased(4)), model, history,
+                String.format(UndoCommand.MESSAGE_INVALID_COMMAND_NUMBER, 4));
+
+        // undoes both commands at once
+        deleteFirstModule(expectedModel);
+        deleteFirstModule(expectedModel);
+        expectedModel.undoApplication(2);
+        assertCommandSuccess(new UndoCommand(Index.fromOneBased(1)), model, history, UndoCommand.MESSAGE_SUCCESS,
+                expectedModel);
+
+        // already at the state before the command -> command fails
+        assertCommandFailure(new UndoCommand(Index.fromOneBased(1)), model, history, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_spilledStatesCannotBeRead_failure() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryStateLimit(1);
+        Model modelWithSpill = new ModelManager(model.getApplication(), userPrefs, new UndoHistorySpill() {
+            private List<ApplicationDelta> segment;
+
+            @Override
+            public void pushSegment(List<ApplicationDelta> deltas) {
+                segment = deltas;
+            }
+
+            @Override
+            public List<ApplicationDelta> popSegment() throws IOException {
+                throw new IOException("Read failure");
+            }
+
+            @Override
+            public void clear() {
+                segment = null;
+            }
+        });
+        deleteFirstModule(modelWithSpill);
+        deleteFirstModule(modelWithSpill);
+
+        // the states to undo are spilled, but cannot be read back
+        assertCommandFailure(new UndoCommand(2), modelWithSpill, commandHistory, UndoCommand.MESSAGE_FAILURE);
+        assertCommandFailure(new UndoCommand(), modelWithSpill, commandHistory, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void equals() {
+        UndoCommand undoOneCommand = new UndoCommand();
+        UndoCommand undoFirstCommand = new UndoCommand(Index.fromOneBased(1));
+
+        // same values -> returns true
+        assertTrue(undoOneCommand.equals(new UndoCommand(1)));
+        assertTrue(undoFirstCommand.equals(new UndoCommand(Index.fromOneBased(1))));
+
+        // different steps -> returns false
+        assertFalse(undoOneCommand.equals(new UndoCommand(2)));
+
+        // different command number -> returns false
+        assertFalse(undoFirstCommand.equals(new UndoCommand(Index.fromOneBased(2))));
+
+        // steps and command number -> returns false
+        assertFalse(undoOneCommand.equals(undoFirstCommand));
+
+        // different types -> returns false
+        assertFalse(undoOneCommand.equals(1));
+    }
 }
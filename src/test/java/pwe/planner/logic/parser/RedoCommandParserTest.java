@@ -0,0 +1,32 @@
+package pwe.planner.logic.parser;
+
+import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import pwe.planner.logic.commands.RedoCommand;
+
+public class RedoCommandParserTest {
+
+    private RedoCommandParser parser = new RedoCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsRedoCommand() {
+        assertParseSuccess(parser, "  ", new RedoCommand());
+    }
+
+    @Test
+    public void parse_validArgs_returnsRedoCommand() {
+        assertParseSuccess(parser, "3", new RedoCommand(3));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "a", expectedMessage);
+        assertParseFailure(parser, "#1", expectedMessage);
+    }
+}
@@ -0,0 +1,36 @@
+package pwe.planner.logic.parser;
+
+import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import pwe.planner.commons.core.index.Index;
+import pwe.planner.logic.commands.UndoCommand;
+
+public class UndoCommandParserTest {
+
+    private UndoCommandParser parser = new UndoCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsUndoCommand() {
+        assertParseSuccess(parser, "  ", new UndoCommand());
+    }
+
+    @Test
+    public void parse_validArgs_returnsUndoCommand() {
+        assertParseSuccess(parser, "3", new UndoCommand(3));
+        assertParseSuccess(parser, " #5 ", new UndoCommand(Index.fromOneBased(5)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "-1", expectedMessage);
+        assertParseFailure(parser, "a", expectedMessage);
+        assertParseFailure(parser, "#", expectedMessage);
+        assertParseFailure(parser, "#0", expectedMessage);
+    }
+}
@@ -0,0 +1,77 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BENSON;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import pwe.planner.model.module.Module;
+
+public class ApplicationChangeLogTest {
+
+    private final ListChange<Module> addAlice =
+            new ListChange<>(0, Collections.emptyList(), Collections.singletonList(ALICE));
+    private final ListChange<Module> addBenson =
+            new ListChange<>(1, Collections.emptyList(), Collections.singletonList(BENSON));
+
+    @Test
+    public void getChangesSince() {
+        ApplicationChangeLog changeLog = new ApplicationChangeLog(10);
+        changeLog.addModuleChange(11, addAlice);
+        changeLog.addModuleChange(12, addBenson);
+
+        // current version -> no changes
+        assertEquals(Optional.of(new ApplicationDelta()), changeLog.getChangesSince(12));
+
+        // earlier versions -> changes made since
+        ApplicationDelta expectedDelta = new ApplicationDelta();
+        expectedDelta.addModuleChange(addBenson);
+        assertEquals(Optional.of(expectedDelta), changeLog.getChangesSince(11));
+        expectedDelta = new ApplicationDelta();
+        expectedDelta.addModuleChange(addAlice);
+        expectedDelta.addModuleChange(addBenson);
+        assertEquals(Optional.of(expectedDelta), changeLog.getChangesSince(10));
+
+        // not a version of the application -> empty
+        assertFalse(changeLog.getChangesSince(9).isPresent());
+        assertFalse(changeLog.getChangesSince(13).isPresent());
+    }
+
+    @Test
+    public void addModuleChange_changedElementLimitExceeded_oldestChangesDiscarded() {
+        ApplicationChangeLog changeLog = new ApplicationChangeLog(0);
+        for (int i = 1; i <= ApplicationChangeLog.CHANGED_ELEMENT_LIMIT + 1; i++) {
+            changeLog.addModuleChange(i, addAlice);
+        }
+
+        assertFalse(changeLog.getChangesSince(0).isPresent());
+        assertEquals(ApplicationChangeLog.CHANGED_ELEMENT_LIMIT,
+                changeLog.getChangesSince(1).get().getModuleChanges().size());
+    }
+
+    @Test
+    public void constructor_copy_doesNotChangeWithOriginal() {
+        ApplicationChangeLog changeLog = new ApplicationChangeLog(10);
+        ApplicationChangeLog copy = new ApplicationChangeLog(changeLog);
+        changeLog.addModuleChange(11, addAlice);
+
+        assertEquals(Optional.of(new ApplicationDelta()), copy.getChangesSince(10));
+        assertFalse(copy.getChangesSince(11).isPresent());
+    }
+
+    @Test
+    public void getRecentChanges_applicationModified_changesSinceEarlierVersionKnown() {
+        Application application = new Application();
+        long stamp = application.getModificationStamp();
+        application.addModule(ALICE);
+
+        ApplicationDelta expectedDelta = new ApplicationDelta();
+        expectedDelta.addModuleChange(addAlice);
+        assertEquals(Optional.of(expectedDelta), application.getRecentChanges().getChangesSince(stamp));
+    }
+}
@@ -21,8 +21,10 @@ import org.junit.rules.ExpectedException;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.module.exceptions.DuplicateModuleException;
 import pwe.planner.model.planner.DegreePlanner;
@@ -122,6 +124,96 @@ public class ApplicationTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void getTotalCredits_typicalApplication_returnsSumOfModuleCredits() throws IllegalValueException {
+        application.resetData(new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType());
+        Code code = new Code("CS2100");
+
+        assertEquals(11, application.getTotalCredits(application.getDegreePlannerByCode(code)));
+        assertEquals(3, application.getTotalCredits(application.getRequirementCategoryByCode(code)));
+    }
+
+    @Test
+    public void getTotalCredits_afterModuleEditedAndRemoved_returnsUpdatedTotals() throws IllegalValueException {
+        application.resetData(new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType());
+        Code code = new Code("CS2100");
+        Module module = application.getModuleByCode(code);
+        Module editedModule = new ModuleBuilder(module).withCredits("10").build();
+
+        application.editModule(module, editedModule);
+        assertEquals(18, application.getTotalCredits(application.getDegreePlannerByCode(code)));
+        assertEquals(10, application.getTotalCredits(application.getRequirementCategoryByCode(code)));
+
+        application.removeModule(editedModule);
+        assertEquals(8, application.getTotalCredits(application.getDegreePlannerByCode(new Code("CS1010"))));
+    }
+
+    @Test
+    public void endBatch_batch_listenersCalledOnceWithOneChangePerList() throws IllegalValueException {
+        application.resetData(new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType());
+        SimpleIntegerProperty invalidationCounter = new SimpleIntegerProperty();
+        SimpleIntegerProperty moduleChangeCounter = new SimpleIntegerProperty();
+        SimpleIntegerProperty degreePlannerChangeCounter = new SimpleIntegerProperty();
+        application.addListener(observable -> invalidationCounter.set(invalidationCounter.get() + 1));
+        application.getModuleList().addListener((ListChangeListener<Module>) change ->
+                moduleChangeCounter.set(moduleChangeCounter.get() + 1));
+        application.getDegreePlannerList().addListener((ListChangeListener<DegreePlanner>) change ->
+                degreePlannerChangeCounter.set(degreePlannerChangeCounter.get() + 1));
+
+        application.beginBatch();
+        application.beginBatch();
+        application.removeModule(application.getModuleByCode(new Code("CS2100")));
+        application.removeModule(application.getModuleByCode(new Code("CS1010")));
+        application.endBatch();
+        assertEquals(0, invalidationCounter.get());
+        assertEquals(0, moduleChangeCounter.get());
+        assertEquals(0, degreePlannerChangeCounter.get());
+
+        application.endBatch();
+        assertEquals(1, invalidationCounter.get());
+        assertEquals(1, moduleChangeCounter.get());
+        assertEquals(1, degreePlannerChangeCounter.get());
+        assertFalse(application.hasModuleCode(new Code("CS2100")));
+        assertFalse(application.hasModuleCode(new Code("CS1010")));
+    }
+
+    @Test
+    public void endBatch_unmodifiedBatch_listenersNotCalled() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        application.addListener(observable -> counter.set(counter.get() + 1));
+        application.beginBatch();
+        application.endBatch();
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void endBatch_noBatch_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        application.endBatch();
+    }
+
+    @Test
+    public void getModificationStamp_modification_stampIncreases() {
+        long initialStamp = application.getModificationStamp();
+        application.hasModule(ALICE);
+        assertEquals(initialStamp, application.getModificationStamp());
+
+        application.addModule(ALICE);
+        long stampAfterAdd = application.getModificationStamp();
+        assertTrue(stampAfterAdd > initialStamp);
+
+        application.removeModule(ALICE);
+        assertTrue(application.getModificationStamp() > stampAfterAdd);
+    }
+
+    @Test
+    public void getModificationStamp_differentApplications_differentStamps() {
+        assertFalse(application.getModificationStamp() == new Application().getModificationStamp());
+    }
+
     /**
      * A stub ReadOnlyApplication whose modules list can violate interface constraints.
      */
@@ -149,6 +241,41 @@ public class ApplicationTest {
             return requirementCategories;
         }
 
+        @Override
+        public int getTotalCredits(DegreePlanner degreePlanner) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getTotalCredits(RequirementCategory requirementCategory) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getModificationStamp() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getModuleListModificationStamp() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getDegreePlannerListModificationStamp() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getRequirementCategoryListModificationStamp() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ApplicationChangeLog getRecentChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
             throw new AssertionError("This method should not be called.");
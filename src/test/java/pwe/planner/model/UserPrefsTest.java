@@ -18,4 +18,15 @@ public class UserPrefsTest {
         Assert.assertThrows(NullPointerException.class, () -> userPrefs.setModuleListFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryStateLimit_nonPositiveLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryStateLimit(0));
+    }
+
+    @Test
+    public void setUndoHistoryByteLimit_nonPositiveLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryByteLimit(-1));
+    }
 }
@@ -8,13 +8,21 @@ import static pwe.planner.testutil.TypicalModules.AMY;
 import static pwe.planner.testutil.TypicalModules.BOB;
 import static pwe.planner.testutil.TypicalModules.CARL;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.OptionalInt;
 
 import org.junit.Test;
 
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.util.SampleDataUtil;
 import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.ModuleBuilder;
 
 public class VersionedApplicationTest {
 
@@ -207,6 +215,222 @@ public class VersionedApplicationTest {
         assertThrows(VersionedApplication.NoRedoableStateException.class, versionedapplication::redo);
     }
 
+    @Test
+    public void undoRedo_multipleSteps_intermediateStatesSkipped() {
+        VersionedApplication versionedapplication = prepareapplicationList(
+                emptyapplication, applicationWithAmy, applicationWithBob, applicationWithCarl);
+        int[] invalidationCount = {0};
+        versionedapplication.addListener(observable -> invalidationCount[0]++);
+
+        assertFalse(versionedapplication.canUndo(4));
+        assertThrows(VersionedApplication.NoUndoableStateException.class, () -> versionedapplication.undo(4));
+        assertThrows(IllegalArgumentException.class, () -> versionedapplication.undo(0));
+
+        versionedapplication.undo(3);
+        assertEquals(1, invalidationCount[0]);
+        assertapplicationListStatus(versionedapplication,
+                Collections.emptyList(),
+                emptyapplication,
+                Arrays.asList(applicationWithAmy, applicationWithBob, applicationWithCarl));
+
+        assertFalse(versionedapplication.canRedo(4));
+        invalidationCount[0] = 0;
+        versionedapplication.redo(2);
+        assertEquals(1, invalidationCount[0]);
+        assertapplicationListStatus(versionedapplication,
+                Arrays.asList(emptyapplication, applicationWithAmy),
+                applicationWithBob,
+                Collections.singletonList(applicationWithCarl));
+    }
+
+    @Test
+    public void getUndoStepsTo() {
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication);
+        long emptyStateId = versionedapplication.getCurrentStateId();
+        versionedapplication.resetData(applicationWithAmy);
+        versionedapplication.commit();
+        long amyStateId = versionedapplication.getCurrentStateId();
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+
+        assertEquals(OptionalInt.of(2), versionedapplication.getUndoStepsTo(emptyStateId));
+        assertEquals(OptionalInt.of(0), versionedapplication.getUndoStepsTo(versionedapplication.getCurrentStateId()));
+
+        // state after the current state -> returns empty
+        versionedapplication.undo();
+        long bobStateId = amyStateId + 1;
+        assertEquals(OptionalInt.empty(), versionedapplication.getUndoStepsTo(bobStateId));
+
+        // state removed by a later commit -> returns empty
+        versionedapplication.resetData(applicationWithCarl);
+        versionedapplication.commit();
+        assertEquals(OptionalInt.empty(), versionedapplication.getUndoStepsTo(bobStateId));
+        assertEquals(OptionalInt.of(1), versionedapplication.getUndoStepsTo(amyStateId));
+    }
+
+    @Test
+    public void undoRedo_cascadedEdit_statesRestored() {
+        VersionedApplication versionedapplication = new VersionedApplication(SampleDataUtil.getSampleApplication());
+        Application initialState = new Application(versionedapplication);
+
+        // edit the code of a module in the degree plan, which is cascaded to the degree planners
+        DegreePlanner degreePlanner = versionedapplication.getDegreePlannerList().stream()
+                .filter(planner -> !planner.getCodes().isEmpty())
+                .findFirst()
+                .get();
+        Code codeToEdit = degreePlanner.getCodes().iterator().next();
+        Module moduleToEdit = versionedapplication.getModuleByCode(codeToEdit);
+        Module editedModule = new ModuleBuilder(moduleToEdit).withCode("ZZ9999").build();
+        versionedapplication.editModule(moduleToEdit, editedModule);
+        versionedapplication.commit();
+        Application editedState = new Application(versionedapplication);
+
+        versionedapplication.undo();
+        assertEquals(initialState, new Application(versionedapplication));
+        assertEquals(moduleToEdit, versionedapplication.getModuleByCode(codeToEdit));
+        assertEquals(degreePlanner, versionedapplication.getDegreePlannerByCode(codeToEdit));
+        assertEquals(initialState.getTotalCredits(degreePlanner), versionedapplication.getTotalCredits(degreePlanner));
+
+        versionedapplication.redo();
+        assertEquals(editedState, new Application(versionedapplication));
+        assertEquals(editedModule, versionedapplication.getModuleByCode(editedModule.getCode()));
+        assertFalse(versionedapplication.hasModuleCode(codeToEdit));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_changesDiscarded() {
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication, applicationWithAmy);
+
+        versionedapplication.addModule(BOB);
+        versionedapplication.undo();
+        assertEquals(emptyapplication, new Application(versionedapplication));
+
+        versionedapplication.redo();
+        assertEquals(applicationWithAmy, new Application(versionedapplication));
+    }
+
+    @Test
+    public void setUndoHistoryLimits_invalidLimits_throwsIllegalArgumentException() {
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication);
+
+        assertThrows(IllegalArgumentException.class, () -> versionedapplication.setUndoHistoryLimits(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> versionedapplication.setUndoHistoryLimits(1, 0));
+    }
+
+    @Test
+    public void commit_stateLimitExceeded_oldestStatesEvicted() {
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication);
+        versionedapplication.setUndoHistoryLimits(2, Long.MAX_VALUE);
+
+        versionedapplication.resetData(applicationWithAmy);
+        versionedapplication.commit();
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+        versionedapplication.resetData(applicationWithCarl);
+        versionedapplication.commit();
+
+        assertEquals(2, versionedapplication.getHistorySize());
+        assertapplicationListStatus(versionedapplication,
+                Arrays.asList(applicationWithAmy, applicationWithBob),
+                applicationWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void setUndoHistoryLimits_byteLimitExceeded_oldestStatesEvicted() {
+        VersionedApplication versionedapplication = prepareapplicationList(
+                emptyapplication, applicationWithAmy, applicationWithBob);
+        long estimatedHistoryBytes = versionedapplication.getEstimatedHistoryBytes();
+        assertTrue(estimatedHistoryBytes > 0);
+
+        // limit too small for both states -> oldest state evicted
+        versionedapplication.setUndoHistoryLimits(Integer.MAX_VALUE, estimatedHistoryBytes - 1);
+        assertEquals(1, versionedapplication.getHistorySize());
+        assertTrue(versionedapplication.getEstimatedHistoryBytes() < estimatedHistoryBytes);
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(applicationWithAmy),
+                applicationWithBob,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_stateLimitExceededWithSpill_oldestStatesSpilledAndRestoredOnUndo() {
+        StubUndoHistorySpill spill = new StubUndoHistorySpill();
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication);
+        versionedapplication.setUndoHistoryLimits(1, Long.MAX_VALUE);
+        versionedapplication.setUndoHistorySpill(spill);
+
+        versionedapplication.resetData(applicationWithAmy);
+        versionedapplication.commit();
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+        versionedapplication.resetData(applicationWithCarl);
+        versionedapplication.commit();
+
+        assertEquals(3, versionedapplication.getHistorySize());
+        assertEquals(2, versionedapplication.getSpilledHistorySize());
+        assertEquals(1, spill.segments.size());
+
+        // checking whether the spilled states can be undone does not read them back
+        assertTrue(versionedapplication.canUndo(3));
+        assertFalse(versionedapplication.canUndo(4));
+        assertEquals(2, versionedapplication.getSpilledHistorySize());
+        assertEquals(1, spill.segments.size());
+
+        // undoing past the states in memory reads the spilled states back
+        versionedapplication.undo();
+        versionedapplication.undo();
+        assertEquals(0, versionedapplication.getSpilledHistorySize());
+        assertTrue(spill.segments.isEmpty());
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(emptyapplication),
+                applicationWithAmy,
+                Arrays.asList(applicationWithBob, applicationWithCarl));
+    }
+
+    @Test
+    public void commit_spillWriteFails_oldestStatesEvicted() {
+        StubUndoHistorySpill spill = new StubUndoHistorySpill();
+        spill.isWriteFailing = true;
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication);
+        versionedapplication.setUndoHistoryLimits(2, Long.MAX_VALUE);
+        versionedapplication.setUndoHistorySpill(spill);
+
+        versionedapplication.resetData(applicationWithAmy);
+        versionedapplication.commit();
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+        versionedapplication.resetData(applicationWithCarl);
+        versionedapplication.commit();
+
+        assertEquals(2, versionedapplication.getHistorySize());
+        assertEquals(0, versionedapplication.getSpilledHistorySize());
+        assertapplicationListStatus(versionedapplication,
+                Arrays.asList(applicationWithAmy, applicationWithBob),
+                applicationWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_spillReadFails_spilledStatesDiscarded() {
+        StubUndoHistorySpill spill = new StubUndoHistorySpill();
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication);
+        versionedapplication.setUndoHistoryLimits(1, Long.MAX_VALUE);
+        versionedapplication.setUndoHistorySpill(spill);
+        versionedapplication.resetData(applicationWithAmy);
+        versionedapplication.commit();
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+        assertEquals(2, versionedapplication.getSpilledHistorySize());
+
+        spill.isReadFailing = true;
+        assertThrows(VersionedApplication.NoUndoableStateException.class, versionedapplication::undo);
+        assertEquals(0, versionedapplication.getSpilledHistorySize());
+        assertTrue(spill.segments.isEmpty());
+        assertFalse(versionedapplication.canUndo());
+        assertEquals(applicationWithBob, new Application(versionedapplication));
+    }
+
     @Test
     public void equals() {
         VersionedApplication versionedapplication = prepareapplicationList(applicationWithAmy, applicationWithBob);
@@ -228,6 +452,18 @@ public class VersionedApplicationTest {
         VersionedApplication differentapplicationList = prepareapplicationList(applicationWithBob, applicationWithCarl);
         assertFalse(versionedapplication.equals(differentapplicationList));
 
+        // same number of states and current state, different earlier state -> returns false
+        assertFalse(prepareapplicationList(applicationWithAmy, applicationWithCarl)
+                .equals(prepareapplicationList(applicationWithBob, applicationWithCarl)));
+
+        // same states reached through equal replacements -> returns true
+        VersionedApplication replacedWithCopy = prepareapplicationList(applicationWithAmy, applicationWithBob);
+        replacedWithCopy.setModule(BOB, new ModuleBuilder(BOB).build());
+        replacedWithCopy.commit();
+        VersionedApplication committedWithoutChanges = prepareapplicationList(applicationWithAmy, applicationWithBob);
+        committedWithoutChanges.commit();
+        assertTrue(replacedWithCopy.equals(committedWithoutChanges));
+
         // different current pointer index -> returns false
         VersionedApplication differentCurrentStatePointer = prepareapplicationList(
                 applicationWithAmy, applicationWithBob);
@@ -295,4 +531,34 @@ public class VersionedApplicationTest {
             versionedapplication.undo();
         }
     }
+
+    /**
+     * An in-memory {@code UndoHistorySpill} which can be made to fail.
+     */
+    private static class StubUndoHistorySpill implements UndoHistorySpill {
+        private final List<List<ApplicationDelta>> segments = new ArrayList<>();
+        private boolean isWriteFailing;
+        private boolean isReadFailing;
+
+        @Override
+        public void pushSegment(List<ApplicationDelta> deltas) throws IOException {
+            if (isWriteFailing) {
+                throw new IOException("Write failure");
+            }
+            segments.add(new ArrayList<>(deltas));
+        }
+
+        @Override
+        public List<ApplicationDelta> popSegment() throws IOException {
+            if (isReadFailing) {
+                throw new IOException("Read failure");
+            }
+            return segments.remove(segments.size() - 1);
+        }
+
+        @Override
+        public void clear() {
+            segments.clear();
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package pwe.planner.model.module;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -46,4 +47,16 @@ public class CodeTest {
         // case insensitive equals codes -> success
         assertFalse(new Code("DEF5678").equals(new Code("DE5678F")));
     }
+
+    @Test
+    public void of() {
+        // null value
+        Assert.assertThrows(NullPointerException.class, () -> Code.of(null));
+
+        // invalid value
+        Assert.assertThrows(IllegalArgumentException.class, () -> Code.of(""));
+
+        // equal values share the same instance
+        assertSame(Code.of("cs1010"), Code.of("CS1010"));
+    }
 }
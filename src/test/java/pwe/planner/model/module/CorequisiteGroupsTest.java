@@ -0,0 +1,80 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CorequisiteGroupsTest {
+    private static final Code CODE_A = new Code("CS1010");
+    private static final Code CODE_B = new Code("CS1231");
+    private static final Code CODE_C = new Code("CS2040C");
+    private static final Code CODE_D = new Code("CS2100");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CorequisiteGroups corequisiteGroups = new CorequisiteGroups();
+
+    @Test
+    public void getGroup_nullCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        corequisiteGroups.getGroup(null);
+    }
+
+    @Test
+    public void getGroup_codeNotInAnyGroup_returnsOnlyCode() {
+        assertEquals(Set.of(CODE_A), corequisiteGroups.getGroup(CODE_A));
+    }
+
+    @Test
+    public void getGroup_modifyGroup_throwsUnsupportedOperationException() {
+        corequisiteGroups.union(CODE_A, CODE_B);
+        thrown.expect(UnsupportedOperationException.class);
+        corequisiteGroups.getGroup(CODE_A).add(CODE_C);
+    }
+
+    @Test
+    public void union_transitiveCodes_returnsMergedGroup() {
+        corequisiteGroups.union(CODE_A, CODE_B);
+        corequisiteGroups.union(CODE_C, CODE_D);
+        corequisiteGroups.union(CODE_B, CODE_C);
+        assertEquals(Set.of(CODE_A, CODE_B, CODE_C, CODE_D), corequisiteGroups.getGroup(CODE_D));
+    }
+
+    @Test
+    public void remove_codeInGroup_remainingCodesStayGrouped() {
+        corequisiteGroups.union(CODE_A, CODE_B);
+        corequisiteGroups.union(CODE_B, CODE_C);
+        corequisiteGroups.remove(CODE_B);
+        assertEquals(Set.of(CODE_B), corequisiteGroups.getGroup(CODE_B));
+        assertEquals(Set.of(CODE_A, CODE_C), corequisiteGroups.getGroup(CODE_A));
+    }
+
+    @Test
+    public void remove_lastOtherCodeInGroup_returnsOnlyCode() {
+        corequisiteGroups.union(CODE_A, CODE_B);
+        corequisiteGroups.remove(CODE_A);
+        assertEquals(Set.of(CODE_B), corequisiteGroups.getGroup(CODE_B));
+    }
+
+    @Test
+    public void rename_codeInGroup_editedCodeReplacesCode() {
+        corequisiteGroups.union(CODE_A, CODE_B);
+        corequisiteGroups.rename(CODE_A, CODE_C);
+        assertEquals(Set.of(CODE_A), corequisiteGroups.getGroup(CODE_A));
+        assertEquals(Set.of(CODE_B, CODE_C), corequisiteGroups.getGroup(CODE_B));
+    }
+
+    @Test
+    public void setGroups_replacementModified_groupsUnchanged() {
+        CorequisiteGroups replacement = new CorequisiteGroups();
+        replacement.union(CODE_A, CODE_B);
+        corequisiteGroups.setGroups(replacement);
+        replacement.union(CODE_B, CODE_C);
+        assertEquals(Set.of(CODE_A, CODE_B), corequisiteGroups.getGroup(CODE_A));
+    }
+}
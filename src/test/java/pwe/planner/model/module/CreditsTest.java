@@ -1,6 +1,7 @@
 package pwe.planner.model.module;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -43,4 +44,16 @@ public class CreditsTest {
         assertTrue(Credits.isValidCredits("50")); // exactly 2 numbers
         assertTrue(Credits.isValidCredits("999")); // exactly 3 numbers
     }
+
+    @Test
+    public void of() {
+        // null value
+        Assert.assertThrows(NullPointerException.class, () -> Credits.of(null));
+
+        // invalid value
+        Assert.assertThrows(IllegalArgumentException.class, () -> Credits.of("0004"));
+
+        // equal values share the same instance
+        assertSame(Credits.of("4"), Credits.of("4"));
+    }
 }
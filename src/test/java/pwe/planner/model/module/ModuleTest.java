@@ -9,10 +9,15 @@ import static pwe.planner.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static pwe.planner.testutil.TypicalModules.ALICE;
 import static pwe.planner.testutil.TypicalModules.BOB;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import pwe.planner.model.planner.Semester;
 import pwe.planner.testutil.ModuleBuilder;
 
 public class ModuleTest {
@@ -48,6 +53,34 @@ public class ModuleTest {
         assertTrue(ALICE.isSameModule(editedAlice));
     }
 
+    @Test
+    public void isOfferedIn() {
+        // ALICE is offered in semesters 1, 2 and 4
+        assertTrue(ALICE.isOfferedIn(new Semester("1")));
+        assertTrue(ALICE.isOfferedIn(new Semester("4")));
+        assertFalse(ALICE.isOfferedIn(new Semester("3")));
+
+        // module not offered in any semester -> returns false
+        Module module = new ModuleBuilder(ALICE).withSemesters(Collections.emptySet()).build();
+        assertFalse(module.isOfferedIn(new Semester("1")));
+    }
+
+    @Test
+    public void isOfferedInAll() {
+        // no semesters -> returns true
+        assertTrue(ALICE.isOfferedInAll(Collections.emptySet()));
+        // all semesters offered -> returns true
+        assertTrue(ALICE.isOfferedInAll(Arrays.asList(new Semester("1"), new Semester("2"), new Semester("4"))));
+        // one semester not offered -> returns false
+        assertFalse(ALICE.isOfferedInAll(Arrays.asList(new Semester("1"), new Semester("3"))));
+    }
+
+    @Test
+    public void getSemesters_derivedFromOfferedSemesters() {
+        Module module = new ModuleBuilder(ALICE).withSemesters("3", "1").build();
+        assertTrue(module.getSemesters().equals(new HashSet<>(Arrays.asList(new Semester("1"), new Semester("3")))));
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -3,6 +3,11 @@ package pwe.planner.model.module;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 import org.junit.Test;
 
 import pwe.planner.testutil.ModuleBuilder;
@@ -68,4 +73,27 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new ModuleBuilder().withName("Alice").withCredits("123")
                 .withCode("CS1010").build()));
     }
+
+    @Test
+    public void withNameWordIndex() {
+        Module aliceBob = new ModuleBuilder().withCode("CS1010").withName("Alice Bob").build();
+        Module aliceCarol = new ModuleBuilder().withCode("CS1231").withName("Alice Carol").build();
+        Map<String, Set<Code>> index = Map.of("alice", Set.of(aliceBob.getCode(), aliceCarol.getCode()),
+                "bob", Set.of(aliceBob.getCode()), "carol", Set.of(aliceCarol.getCode()));
+        Function<String, Set<Code>> nameWordIndex = word -> index.getOrDefault(word.toLowerCase(), Set.of());
+
+        // one keyword -> modules in the word's posting list
+        Predicate<Module> predicate = new NameContainsKeywordsPredicate<Module>("bOB").withNameWordIndex(nameWordIndex);
+        assertTrue(predicate.test(aliceBob));
+        assertFalse(predicate.test(aliceCarol));
+
+        // exact keyword match -> only modules in the first word's posting list with the whole name
+        predicate = new NameContainsKeywordsPredicate<Module>("alice carol").withNameWordIndex(nameWordIndex);
+        assertFalse(predicate.test(aliceBob));
+        assertTrue(predicate.test(aliceCarol));
+
+        // module not indexed -> returns false
+        predicate = new NameContainsKeywordsPredicate<Module>("Alice").withNameWordIndex(nameWordIndex);
+        assertFalse(predicate.test(new ModuleBuilder().withCode("CS2040C").withName("Alice").build()));
+    }
 }
@@ -1,8 +1,11 @@
 package pwe.planner.model.module;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Set;
+
 import org.junit.Test;
 
 import pwe.planner.testutil.Assert;
@@ -38,4 +41,19 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void getFoldedWords() {
+        Name name = new Name("Programming  Methodology II");
+        assertEquals(Set.of("programming", "methodology", "ii"), name.getFoldedWords());
+    }
+
+    @Test
+    public void foldWord() {
+        // null word
+        Assert.assertThrows(NullPointerException.class, () -> Name.foldWord(null));
+
+        assertEquals("methodology", Name.foldWord("METHODOLOGY")); // different case
+        assertEquals("ii", Name.foldWord(" II ")); // leading and trailing spaces
+    }
 }
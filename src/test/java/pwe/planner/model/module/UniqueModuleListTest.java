@@ -2,22 +2,31 @@ package pwe.planner.model.module;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_CODE_BOB;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static pwe.planner.testutil.TypicalModules.ALICE;
 import static pwe.planner.testutil.TypicalModules.BOB;
+import static pwe.planner.testutil.TypicalModules.CARL;
+import static pwe.planner.testutil.TypicalModules.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
 import pwe.planner.model.module.exceptions.DuplicateModuleException;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
+import pwe.planner.model.tag.Tag;
 import pwe.planner.testutil.ModuleBuilder;
 
 public class UniqueModuleListTest {
@@ -49,6 +58,57 @@ public class UniqueModuleListTest {
         assertTrue(uniqueModuleList.contains(ALICE));
     }
 
+    @Test
+    public void containsCode_nullCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueModuleList.containsCode(null);
+    }
+
+    @Test
+    public void containsCode_codeNotInList_returnsFalse() {
+        assertFalse(uniqueModuleList.containsCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void containsCode_codeInList_returnsTrue() {
+        uniqueModuleList.add(ALICE);
+        assertTrue(uniqueModuleList.containsCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void getModuleByCode_codeNotInList_returnsNull() {
+        assertNull(uniqueModuleList.getModuleByCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void getModuleByCode_codeInList_returnsModule() {
+        uniqueModuleList.add(ALICE);
+        assertEquals(ALICE, uniqueModuleList.getModuleByCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void getModuleByCode_afterSetModuleWithDifferentCode_returnsEditedModule() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.setModule(ALICE, BOB);
+        assertNull(uniqueModuleList.getModuleByCode(ALICE.getCode()));
+        assertEquals(BOB, uniqueModuleList.getModuleByCode(BOB.getCode()));
+    }
+
+    @Test
+    public void getModuleByCode_afterRemove_returnsNull() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.remove(ALICE);
+        assertNull(uniqueModuleList.getModuleByCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void getModuleByCode_afterSetModules_returnsReplacementModules() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.setModules(Collections.singletonList(BOB));
+        assertNull(uniqueModuleList.getModuleByCode(ALICE.getCode()));
+        assertEquals(BOB, uniqueModuleList.getModuleByCode(BOB.getCode()));
+    }
+
     @Test
     public void add_nullModule_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -137,6 +197,30 @@ public class UniqueModuleListTest {
         assertEquals(expectedUniqueModuleList, uniqueModuleList);
     }
 
+    @Test
+    public void setModule_afterEarlierModuleRemoved_replacesAtShiftedPosition() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.add(CARL);
+        uniqueModuleList.add(DANIEL);
+        uniqueModuleList.remove(ALICE);
+        Module editedDaniel = new ModuleBuilder(DANIEL).withTags(VALID_TAG_HUSBAND).build();
+        uniqueModuleList.setModule(DANIEL, editedDaniel);
+        UniqueModuleList expectedUniqueModuleList = new UniqueModuleList();
+        expectedUniqueModuleList.add(CARL);
+        expectedUniqueModuleList.add(editedDaniel);
+        assertEquals(expectedUniqueModuleList, uniqueModuleList);
+    }
+
+    @Test
+    public void remove_targetIsEqualCopy_removesModule() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.add(CARL);
+        uniqueModuleList.remove(new ModuleBuilder(ALICE).build());
+        UniqueModuleList expectedUniqueModuleList = new UniqueModuleList();
+        expectedUniqueModuleList.add(CARL);
+        assertEquals(expectedUniqueModuleList, uniqueModuleList);
+    }
+
     @Test
     public void setModules_nullUniqueModuleList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -175,9 +259,168 @@ public class UniqueModuleListTest {
         uniqueModuleList.setModules(listWithDuplicateModules);
     }
 
+    @Test
+    public void setModules_listWithSeveralDuplicateModules_reportsAllDuplicateCodes() {
+        List<Module> listWithDuplicateModules = Arrays.asList(ALICE, BOB, ALICE, BOB);
+        thrown.expect(DuplicateModuleException.class);
+        thrown.expectMessage(new DuplicateModuleException(Arrays.asList(ALICE.getCode(), BOB.getCode())).getMessage());
+        uniqueModuleList.setModules(listWithDuplicateModules);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         uniqueModuleList.asUnmodifiableObservableList().remove(0);
     }
+
+    @Test
+    public void add_moduleWithCorequisite_corequisiteModuleUpdated() {
+        Module cs1010 = new ModuleBuilder().withCode("CS1010").build();
+        Module cs1231 = new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build();
+        uniqueModuleList.add(cs1010);
+        uniqueModuleList.add(cs1231);
+        assertEquals(Set.of(new Code("CS1231")),
+                uniqueModuleList.getModuleByCode(new Code("CS1010")).getCorequisites());
+        assertEquals(Set.of(new Code("CS1010"), new Code("CS1231")),
+                uniqueModuleList.getCorequisiteGroup(new Code("CS1010")));
+    }
+
+    @Test
+    public void add_moduleJoiningCorequisiteGroup_groupSharedByModules() {
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1010").build());
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build());
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS2040C").withCorequisites("CS1231").build());
+
+        Set<Code> group = uniqueModuleList.getModuleByCode(new Code("CS1010")).getCorequisiteGroup();
+        assertEquals(Set.of(new Code("CS1010"), new Code("CS1231"), new Code("CS2040C")), group);
+        assertSame(group, uniqueModuleList.getModuleByCode(new Code("CS1231")).getCorequisiteGroup());
+        assertSame(group, uniqueModuleList.getModuleByCode(new Code("CS2040C")).getCorequisiteGroup());
+        assertEquals(Set.of(new Code("CS1010"), new Code("CS2040C")),
+                uniqueModuleList.getModuleByCode(new Code("CS1231")).getCorequisites());
+    }
+
+    @Test
+    public void setModule_corequisitesRemoved_corequisiteModulesUpdated() {
+        Module cs1010 = new ModuleBuilder().withCode("CS1010").build();
+        Module cs1231 = new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build();
+        uniqueModuleList.add(cs1010);
+        uniqueModuleList.add(cs1231);
+        Module editedCs1231 = new ModuleBuilder(cs1231).withCorequisites().build();
+        uniqueModuleList.setModule(uniqueModuleList.getModuleByCode(new Code("CS1231")), editedCs1231);
+        assertTrue(uniqueModuleList.getModuleByCode(new Code("CS1010")).getCorequisites().isEmpty());
+        assertEquals(Set.of(new Code("CS1231")), uniqueModuleList.getCorequisiteGroup(new Code("CS1231")));
+    }
+
+    @Test
+    public void setModule_codeEdited_corequisiteModulesUpdated() {
+        Module cs1010 = new ModuleBuilder().withCode("CS1010").build();
+        Module cs1231 = new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build();
+        uniqueModuleList.add(cs1010);
+        uniqueModuleList.add(cs1231);
+        Module editedCs1231 = new ModuleBuilder(uniqueModuleList.getModuleByCode(new Code("CS1231")))
+                .withCode("CS2040C").build();
+        uniqueModuleList.setModule(uniqueModuleList.getModuleByCode(new Code("CS1231")), editedCs1231);
+        assertEquals(Set.of(new Code("CS2040C")),
+                uniqueModuleList.getModuleByCode(new Code("CS1010")).getCorequisites());
+    }
+
+    @Test
+    public void remove_moduleWithCorequisite_corequisiteModuleUpdated() {
+        Module cs1010 = new ModuleBuilder().withCode("CS1010").build();
+        Module cs1231 = new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build();
+        uniqueModuleList.add(cs1010);
+        uniqueModuleList.add(cs1231);
+        uniqueModuleList.remove(uniqueModuleList.getModuleByCode(new Code("CS1231")));
+        assertTrue(uniqueModuleList.getModuleByCode(new Code("CS1010")).getCorequisites().isEmpty());
+        assertEquals(Set.of(new Code("CS1010")), uniqueModuleList.getCorequisiteGroup(new Code("CS1010")));
+    }
+
+    @Test
+    public void getCodesByTag_nullTag_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueModuleList.getCodesByTag(null);
+    }
+
+    @Test
+    public void getCodesByTag_tagNotInList_returnsEmptySet() {
+        uniqueModuleList.add(ALICE);
+        assertTrue(uniqueModuleList.getCodesByTag(new Tag(VALID_TAG_HUSBAND)).isEmpty());
+    }
+
+    @Test
+    public void getCodesByTag_tagInList_returnsCodes() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.add(BOB);
+        assertEquals(Set.of(ALICE.getCode()), uniqueModuleList.getCodesByTag(new Tag("friends")));
+        assertEquals(Set.of(BOB.getCode()), uniqueModuleList.getCodesByTag(new Tag(VALID_TAG_HUSBAND)));
+    }
+
+    @Test
+    public void getCodesByTag_afterSetModuleAndRemove_returnsUpdatedCodes() {
+        uniqueModuleList.add(ALICE);
+        Module editedAlice = new ModuleBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniqueModuleList.setModule(ALICE, editedAlice);
+        assertTrue(uniqueModuleList.getCodesByTag(new Tag("friends")).isEmpty());
+        assertEquals(Set.of(ALICE.getCode()), uniqueModuleList.getCodesByTag(new Tag(VALID_TAG_HUSBAND)));
+
+        uniqueModuleList.remove(editedAlice);
+        assertTrue(uniqueModuleList.getCodesByTag(new Tag(VALID_TAG_HUSBAND)).isEmpty());
+    }
+
+    @Test
+    public void getCodesByNameWord_nullWord_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueModuleList.getCodesByNameWord(null);
+    }
+
+    @Test
+    public void getCodesByNameWord_wordNotInList_returnsEmptySet() {
+        uniqueModuleList.add(ALICE);
+        assertTrue(uniqueModuleList.getCodesByNameWord("Ali").isEmpty());
+    }
+
+    @Test
+    public void getCodesByNameWord_wordInList_returnsCodesIgnoringCase() {
+        Module aliceTan = new ModuleBuilder().withCode("CS2040C").withName("Alice Tan").build();
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.add(aliceTan);
+        uniqueModuleList.add(BOB);
+        assertEquals(Set.of(ALICE.getCode(), aliceTan.getCode()), uniqueModuleList.getCodesByNameWord("aLICE"));
+        assertEquals(Set.of(BOB.getCode()), uniqueModuleList.getCodesByNameWord("choo"));
+    }
+
+    @Test
+    public void getCodesByNameWord_afterSetModuleAndRemove_returnsUpdatedCodes() {
+        uniqueModuleList.add(ALICE);
+        Module editedAlice = new ModuleBuilder(ALICE).withName("Alice Tan").build();
+        uniqueModuleList.setModule(ALICE, editedAlice);
+        assertTrue(uniqueModuleList.getCodesByNameWord("Pauline").isEmpty());
+        assertEquals(Set.of(ALICE.getCode()), uniqueModuleList.getCodesByNameWord("Tan"));
+
+        uniqueModuleList.remove(editedAlice);
+        assertTrue(uniqueModuleList.getCodesByNameWord("Alice").isEmpty());
+    }
+
+    @Test
+    public void getCodesByNameWord_afterSetModules_returnsReplacementCodes() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.setModules(Collections.singletonList(BOB));
+        assertTrue(uniqueModuleList.getCodesByNameWord("Alice").isEmpty());
+        assertEquals(Set.of(BOB.getCode()), uniqueModuleList.getCodesByNameWord("Bob"));
+
+        UniqueModuleList replacement = new UniqueModuleList();
+        replacement.add(ALICE);
+        uniqueModuleList.setModules(replacement);
+        assertTrue(uniqueModuleList.getCodesByNameWord("Bob").isEmpty());
+        assertEquals(Set.of(ALICE.getCode()), uniqueModuleList.getCodesByNameWord("Alice"));
+    }
+
+    @Test
+    public void getCodesByNameWord_listenerNotifiedOfAdd_wordAlreadyIndexed() {
+        List<Set<Code>> codesSeenByListener = new ArrayList<>();
+        uniqueModuleList.asUnmodifiableObservableList().addListener((ListChangeListener<Module>) change ->
+                codesSeenByListener.add(new HashSet<>(uniqueModuleList.getCodesByNameWord("Alice"))));
+        uniqueModuleList.add(ALICE);
+        assertEquals(Collections.singletonList(Set.of(ALICE.getCode())), codesSeenByListener);
+    }
 }
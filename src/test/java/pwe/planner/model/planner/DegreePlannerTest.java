@@ -9,6 +9,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import pwe.planner.model.module.Code;
 import pwe.planner.testutil.DegreePlannerBuilder;
 
 public class DegreePlannerTest {
@@ -75,4 +76,13 @@ public class DegreePlannerTest {
         editedDegreePlanner = new DegreePlannerBuilder(YEAR_1_SEMESTER_1).withCodes("CS1111", "CS2222").build();
         assertFalse(YEAR_1_SEMESTER_1.equals(editedDegreePlanner));
     }
+
+    @Test
+    public void containsCode() {
+        // code in degree planner -> returns true
+        assertTrue(YEAR_1_SEMESTER_1.containsCode(new Code("CS1231")));
+
+        // code not in degree planner -> returns false
+        assertFalse(YEAR_1_SEMESTER_1.containsCode(new Code("CS9999")));
+    }
 }
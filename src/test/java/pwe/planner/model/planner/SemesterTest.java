@@ -1,6 +1,8 @@
 package pwe.planner.model.planner;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -37,4 +39,25 @@ public class SemesterTest {
         // valid year
         assertTrue(Semester.isValidSemester("1")); // exactly zero
     }
+
+    @Test
+    public void of() {
+        // null value
+        Assert.assertThrows(NullPointerException.class, () -> Semester.of(null));
+
+        // invalid value
+        Assert.assertThrows(IllegalArgumentException.class, () -> Semester.of("5"));
+
+        // equal values share the same instance
+        assertSame(Semester.of("1"), Semester.of("1"));
+    }
+
+    @Test
+    public void getMask() {
+        // every semester has a distinct single bit
+        assertEquals(1, new Semester("1").getMask());
+        assertEquals(2, new Semester("2").getMask());
+        assertEquals(4, new Semester("3").getMask());
+        assertEquals(8, new Semester("4").getMask());
+    }
 }
@@ -2,9 +2,11 @@ package pwe.planner.model.planner;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_1;
 import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_2;
+import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_2_SEMESTER_1;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -14,6 +16,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import pwe.planner.model.module.Code;
 import pwe.planner.model.planner.exceptions.DegreePlannerNotFoundException;
 import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
 import pwe.planner.testutil.DegreePlannerBuilder;
@@ -47,6 +50,69 @@ public class UniqueDegreePlannerListTest {
         assertTrue(uniqueDegreePlannerList.contains(YEAR_1_SEMESTER_1));
     }
 
+    @Test
+    public void getDegreePlanner_sameYearAndSemester_returnsDegreePlannerInList() {
+        assertNull(uniqueDegreePlannerList.getDegreePlanner(YEAR_1_SEMESTER_1));
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        DegreePlanner emptyYear1Semester1 = new DegreePlannerBuilder(YEAR_1_SEMESTER_1).withCodes().build();
+        assertEquals(YEAR_1_SEMESTER_1, uniqueDegreePlannerList.getDegreePlanner(emptyYear1Semester1));
+        assertNull(uniqueDegreePlannerList.getDegreePlanner(YEAR_1_SEMESTER_2));
+
+        uniqueDegreePlannerList.setDegreePlanner(YEAR_1_SEMESTER_1, emptyYear1Semester1);
+        assertEquals(emptyYear1Semester1, uniqueDegreePlannerList.getDegreePlanner(YEAR_1_SEMESTER_1));
+        uniqueDegreePlannerList.remove(emptyYear1Semester1);
+        assertNull(uniqueDegreePlannerList.getDegreePlanner(YEAR_1_SEMESTER_1));
+    }
+
+    @Test
+    public void getDegreePlannerByCode_codeNotInList_returnsNull() {
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+    }
+
+    @Test
+    public void getDegreePlannerByCode_codeInList_returnsDegreePlanner() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        assertEquals(YEAR_1_SEMESTER_1, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+    }
+
+    @Test
+    public void getDegreePlannerByCode_afterSetDegreePlanner_returnsEditedDegreePlanner() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        DegreePlanner editedDegreePlanner = new DegreePlannerBuilder(YEAR_1_SEMESTER_1).withCodes("CS1231").build();
+        uniqueDegreePlannerList.setDegreePlanner(YEAR_1_SEMESTER_1, editedDegreePlanner);
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+        assertEquals(editedDegreePlanner, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1231")));
+    }
+
+    @Test
+    public void getDegreePlannerByCode_afterRemove_returnsNull() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.remove(YEAR_1_SEMESTER_1);
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+    }
+
+    @Test
+    public void getDegreePlannerByCode_afterSetDegreePlanners_returnsReplacementDegreePlanner() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        DegreePlanner replacement = new DegreePlannerBuilder(YEAR_1_SEMESTER_2).withCodes("CS1010").build();
+        uniqueDegreePlannerList.setDegreePlanners(Collections.singletonList(replacement));
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1231")));
+        assertEquals(replacement, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+    }
+
+    @Test
+    public void containsCode_nullCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueDegreePlannerList.containsCode(null);
+    }
+
+    @Test
+    public void containsCode_codeInList_returnsTrue() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        assertTrue(uniqueDegreePlannerList.containsCode(new Code("CS2100")));
+        assertFalse(uniqueDegreePlannerList.containsCode(new Code("CS9999")));
+    }
+
     @Test
     public void add_nullDegreePlanner_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -107,6 +173,30 @@ public class UniqueDegreePlannerListTest {
         assertEquals(expectedUniqueDegreePlannerList, uniqueDegreePlannerList);
     }
 
+    @Test
+    public void setDegreePlanner_afterEarlierDegreePlannerRemoved_replacesAtShiftedPosition() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_2);
+        uniqueDegreePlannerList.add(YEAR_2_SEMESTER_1);
+        uniqueDegreePlannerList.remove(YEAR_1_SEMESTER_1);
+        DegreePlanner editedDegreePlanner = new DegreePlannerBuilder(YEAR_2_SEMESTER_1).withCodes("CS1111").build();
+        uniqueDegreePlannerList.setDegreePlanner(YEAR_2_SEMESTER_1, editedDegreePlanner);
+        UniqueDegreePlannerList expectedUniqueDegreePlannerList = new UniqueDegreePlannerList();
+        expectedUniqueDegreePlannerList.add(YEAR_1_SEMESTER_2);
+        expectedUniqueDegreePlannerList.add(editedDegreePlanner);
+        assertEquals(expectedUniqueDegreePlannerList, uniqueDegreePlannerList);
+    }
+
+    @Test
+    public void setDegreePlanner_targetIsEqualCopy_success() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        DegreePlanner targetCopy = new DegreePlannerBuilder(YEAR_1_SEMESTER_1).build();
+        uniqueDegreePlannerList.setDegreePlanner(targetCopy, YEAR_1_SEMESTER_2);
+        UniqueDegreePlannerList expectedUniqueDegreePlannerList = new UniqueDegreePlannerList();
+        expectedUniqueDegreePlannerList.add(YEAR_1_SEMESTER_2);
+        assertEquals(expectedUniqueDegreePlannerList, uniqueDegreePlannerList);
+    }
+
     @Test
     public void setDegreePlanner_editedDegreePlannerHasNonUniqueIdentity_throwsDuplicateDegreePlannerException() {
         uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
@@ -1,6 +1,7 @@
 package pwe.planner.model.planner;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -37,4 +38,16 @@ public class YearTest {
         // valid year
         assertTrue(Year.isValidYear("1")); // exactly zero
     }
+
+    @Test
+    public void of() {
+        // null value
+        Assert.assertThrows(NullPointerException.class, () -> Year.of(null));
+
+        // invalid value
+        Assert.assertThrows(IllegalArgumentException.class, () -> Year.of("0"));
+
+        // equal values share the same instance
+        assertSame(Year.of("2"), Year.of("2"));
+    }
 }
@@ -9,6 +9,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import pwe.planner.model.module.Code;
 import pwe.planner.testutil.RequirementCategoryBuilder;
 
 public class RequirementCategoryTest {
@@ -85,4 +86,12 @@ public class RequirementCategoryTest {
         assertFalse(COMPUTING_FOUNDATION.equals(editedRequirementCategory));
     }
 
+    @Test
+    public void containsCode() {
+        // code in requirement category -> returns true
+        assertTrue(COMPUTING_FOUNDATION.containsCode(new Code("CS2100")));
+
+        // code not in requirement category -> returns false
+        assertFalse(COMPUTING_FOUNDATION.containsCode(new Code("CS9999")));
+    }
 }
@@ -2,6 +2,7 @@ package pwe.planner.model.requirement;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_BREADTH;
 import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_FOUNDATION;
@@ -198,4 +199,89 @@ public class UniqueRequirementCategoryListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniqueRequirementCategoryList.asUnmodifiableObservableList().remove(0);
     }
+
+    @Test
+    public void getRequirementCategory_differentCase_returnsRequirementCategory() {
+        uniqueRequirementCategoryList.add(COMPUTING_FOUNDATION);
+        assertEquals(COMPUTING_FOUNDATION,
+                uniqueRequirementCategoryList.getRequirementCategory(new Name("computing FOUNDATION")));
+        assertNull(uniqueRequirementCategoryList.getRequirementCategory(new Name("Computing Breadth")));
+    }
+
+    @Test
+    public void getRequirementCategory_afterRemove_returnsNull() {
+        uniqueRequirementCategoryList.add(COMPUTING_FOUNDATION);
+        uniqueRequirementCategoryList.remove(COMPUTING_FOUNDATION);
+        assertNull(uniqueRequirementCategoryList.getRequirementCategory(COMPUTING_FOUNDATION.getName()));
+    }
+
+    @Test
+    public void getRequirementCategory_namesDifferingInCase_returnsFirstRequirementCategory() {
+        RequirementCategory lowerCaseFoundation = new RequirementCategoryBuilder(COMPUTING_FOUNDATION)
+                .withName("computing foundation").withCodes("CS1010").build();
+        uniqueRequirementCategoryList.add(COMPUTING_FOUNDATION);
+        uniqueRequirementCategoryList.add(lowerCaseFoundation);
+        assertTrue(uniqueRequirementCategoryList.contains(COMPUTING_FOUNDATION.getName()));
+        assertTrue(uniqueRequirementCategoryList.contains(lowerCaseFoundation.getName()));
+        assertFalse(uniqueRequirementCategoryList.contains(new Name("COMPUTING FOUNDATION")));
+        assertEquals(COMPUTING_FOUNDATION,
+                uniqueRequirementCategoryList.getRequirementCategory(new Name("COMPUTING FOUNDATION")));
+
+        uniqueRequirementCategoryList.remove(COMPUTING_FOUNDATION);
+        assertFalse(uniqueRequirementCategoryList.contains(COMPUTING_FOUNDATION.getName()));
+        assertEquals(lowerCaseFoundation,
+                uniqueRequirementCategoryList.getRequirementCategory(new Name("COMPUTING FOUNDATION")));
+    }
+
+    @Test
+    public void getRequirementCategoryByCode_nullCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueRequirementCategoryList.getRequirementCategoryByCode(null);
+    }
+
+    @Test
+    public void getRequirementCategoryByCode_codeNotInList_returnsNull() {
+        uniqueRequirementCategoryList.add(COMPUTING_FOUNDATION);
+        assertNull(uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS1010")));
+        assertFalse(uniqueRequirementCategoryList.containsCode(new Code("CS1010")));
+    }
+
+    @Test
+    public void getRequirementCategoryByCode_codeInList_returnsRequirementCategory() {
+        uniqueRequirementCategoryList.add(COMPUTING_FOUNDATION);
+        assertEquals(COMPUTING_FOUNDATION,
+                uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS2100")));
+        assertTrue(uniqueRequirementCategoryList.containsCode(new Code("CS2100")));
+    }
+
+    @Test
+    public void getRequirementCategoryByCode_afterSetRequirementCategory_returnsEditedRequirementCategory() {
+        uniqueRequirementCategoryList.add(COMPUTING_FOUNDATION);
+        RequirementCategory editedRequirementCategory = new RequirementCategoryBuilder(COMPUTING_FOUNDATION)
+                .withCodes("CS1010").build();
+        uniqueRequirementCategoryList.setRequirementCategory(COMPUTING_FOUNDATION, editedRequirementCategory);
+        assertNull(uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS2100")));
+        assertEquals(editedRequirementCategory,
+                uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS1010")));
+        assertEquals(editedRequirementCategory,
+                uniqueRequirementCategoryList.getRequirementCategory(COMPUTING_FOUNDATION.getName()));
+    }
+
+    @Test
+    public void getRequirementCategoryByCode_afterRemove_returnsNull() {
+        uniqueRequirementCategoryList.add(COMPUTING_FOUNDATION);
+        uniqueRequirementCategoryList.remove(COMPUTING_FOUNDATION);
+        assertNull(uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS2100")));
+    }
+
+    @Test
+    public void getRequirementCategoryByCode_afterSetRequirementCategories_returnsRequirementCategory() {
+        uniqueRequirementCategoryList.add(COMPUTING_BREADTH);
+        UniqueRequirementCategoryList replacement = new UniqueRequirementCategoryList();
+        replacement.add(COMPUTING_FOUNDATION);
+        uniqueRequirementCategoryList.setRequirementCategories(replacement);
+        assertEquals(COMPUTING_FOUNDATION,
+                uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS2100")));
+        assertNull(uniqueRequirementCategoryList.getRequirementCategory(COMPUTING_BREADTH.getName()));
+    }
 }
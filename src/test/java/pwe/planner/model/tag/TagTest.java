@@ -1,5 +1,7 @@
 package pwe.planner.model.tag;
 
+import static org.junit.Assert.assertSame;
+
 import org.junit.Test;
 
 import pwe.planner.testutil.Assert;
@@ -23,4 +25,15 @@ public class TagTest {
         Assert.assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of() {
+        // null value
+        Assert.assertThrows(NullPointerException.class, () -> Tag.of(null));
+
+        // invalid value
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.of("#friends"));
+
+        // equal values share the same instance
+        assertSame(Tag.of("friends"), Tag.of("friends"));
+    }
 }
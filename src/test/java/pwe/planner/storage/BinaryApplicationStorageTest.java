@@ -0,0 +1,143 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.HOON;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.model.Application;
+
+public class BinaryApplicationStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private BinaryApplicationStorage binaryApplicationStorage;
+    private Application application;
+
+    @Before
+    public void setUp() throws Exception {
+        binaryApplicationStorage = new BinaryApplicationStorage(getTempFilePath("ModuleList.bin"),
+                getTempFilePath("DegreePlannerList.bin"), getTempFilePath("RequirementCategoryList.bin"));
+        application = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+    }
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "moduleList.bin"),
+                BinaryApplicationStorage.toBinaryFilePath(Paths.get("data", "moduleList.json")));
+        assertEquals(Paths.get("moduleList.bin"), BinaryApplicationStorage.toBinaryFilePath(Paths.get("moduleList")));
+    }
+
+    @Test
+    public void readApplication_missingFiles_emptyResult() throws Exception {
+        assertFalse(binaryApplicationStorage.readApplication().isPresent());
+    }
+
+    @Test
+    public void readAndSaveApplication_allInOrder_success() throws Exception {
+        binaryApplicationStorage.saveApplication(application);
+        assertEquals(application, new Application(binaryApplicationStorage.readApplication().get()));
+
+        application.addModule(HOON);
+        application.removeModule(ALICE);
+        application.resetRequirement();
+        binaryApplicationStorage.saveApplication(application);
+        assertEquals(application, new Application(binaryApplicationStorage.readApplication().get()));
+    }
+
+    @Test
+    public void readModuleList_jsonFile_throwsDataConversionException() throws Exception {
+        Path jsonFilePath = getTempFilePath("ModuleList.json");
+        new JsonApplicationStorage(jsonFilePath, getTempFilePath("DegreePlannerList.json"),
+                getTempFilePath("RequirementCategoryList.json")).saveModuleList(application, jsonFilePath);
+
+        thrown.expect(DataConversionException.class);
+        binaryApplicationStorage.readModuleList(jsonFilePath);
+    }
+
+    @Test
+    public void readDegreePlannerList_moduleListFile_throwsDataConversionException() throws Exception {
+        binaryApplicationStorage.saveApplication(application);
+
+        thrown.expect(DataConversionException.class);
+        binaryApplicationStorage.readDegreePlannerList(binaryApplicationStorage.getModuleListFilePath());
+    }
+
+    @Test
+    public void readModuleList_truncatedFile_throwsDataConversionException() throws Exception {
+        binaryApplicationStorage.saveApplication(application);
+        Path moduleListFilePath = binaryApplicationStorage.getModuleListFilePath();
+        byte[] data = Files.readAllBytes(moduleListFilePath);
+        Files.write(moduleListFilePath, Arrays.copyOf(data, data.length - 1));
+
+        thrown.expect(DataConversionException.class);
+        binaryApplicationStorage.readModuleList();
+    }
+
+    @Test
+    public void importAndExportApplication_jsonDataFiles_lossless() throws Exception {
+        JsonApplicationStorage source = new JsonApplicationStorage(getTempFilePath("source/ModuleList.json"),
+                getTempFilePath("source/DegreePlannerList.json"),
+                getTempFilePath("source/RequirementCategoryList.json"));
+        JsonApplicationStorage target = new JsonApplicationStorage(getTempFilePath("target/ModuleList.json"),
+                getTempFilePath("target/DegreePlannerList.json"),
+                getTempFilePath("target/RequirementCategoryList.json"));
+        assertFalse(binaryApplicationStorage.importApplication(source));
+        assertFalse(binaryApplicationStorage.exportApplication(target));
+        assertFalse(FileUtil.isFileExists(binaryApplicationStorage.getModuleListFilePath()));
+
+        source.saveApplication(application);
+        assertTrue(binaryApplicationStorage.importApplication(source));
+        assertTrue(binaryApplicationStorage.exportApplication(target));
+        assertEquals(application, new Application(binaryApplicationStorage.readApplication().get()));
+        assertArrayEquals(Files.readAllBytes(source.getModuleListFilePath()),
+                Files.readAllBytes(target.getModuleListFilePath()));
+        assertArrayEquals(Files.readAllBytes(source.getDegreePlannerListFilePath()),
+                Files.readAllBytes(target.getDegreePlannerListFilePath()));
+        assertArrayEquals(Files.readAllBytes(source.getRequirementCategoryListFilePath()),
+                Files.readAllBytes(target.getRequirementCategoryListFilePath()));
+    }
+
+    @Test
+    public void deleteDataFiles_savedApplication_filesDeleted() throws Exception {
+        binaryApplicationStorage.saveApplication(application);
+        binaryApplicationStorage.deleteDataFiles();
+        assertFalse(FileUtil.isFileExists(binaryApplicationStorage.getModuleListFilePath()));
+        assertFalse(FileUtil.isFileExists(binaryApplicationStorage.getDegreePlannerListFilePath()));
+        assertFalse(FileUtil.isFileExists(binaryApplicationStorage.getRequirementCategoryListFilePath()));
+
+        // missing files are ignored
+        binaryApplicationStorage.deleteDataFiles();
+
+        // the files of the deleted lists are written again on the next save, even if the lists are unmodified
+        binaryApplicationStorage.saveApplication(application);
+        assertEquals(application, new Application(binaryApplicationStorage.readApplication().get()));
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
@@ -0,0 +1,240 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.HOON;
+import static pwe.planner.testutil.TypicalModules.IDA;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.model.Application;
+
+public class JournalApplicationStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path moduleListFilePath;
+    private Path degreePlannerListFilePath;
+    private Path requirementCategoryListFilePath;
+    private Path journalFilePath;
+    private Application application;
+
+    @Before
+    public void setUp() throws Exception {
+        moduleListFilePath = testFolder.getRoot().toPath().resolve("ModuleList.json");
+        degreePlannerListFilePath = testFolder.getRoot().toPath().resolve("DegreePlannerList.json");
+        requirementCategoryListFilePath = testFolder.getRoot().toPath().resolve("RequirementCategoryList.json");
+        journalFilePath = testFolder.getRoot().toPath().resolve("application.journal");
+        application = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+    }
+
+    @Test
+    public void constructor_nonPositiveCompactionThreshold_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new JournalApplicationStorage(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath,
+                journalFilePath, 0);
+    }
+
+    @Test
+    public void saveApplication_afterFirstSave_appendsToJournalOnly() throws Exception {
+        JournalApplicationStorage storage = createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD);
+        storage.saveApplication(application);
+        String savedModuleListContent = FileUtil.readFromFile(moduleListFilePath);
+
+        application.addModule(HOON);
+        storage.saveApplication(application);
+        application.resetPlanner();
+        storage.saveApplication(application);
+        assertEquals(2, storage.getJournalRecordCount());
+        assertEquals(savedModuleListContent, FileUtil.readFromFile(moduleListFilePath));
+
+        // unmodified application is not journaled
+        storage.saveApplication(application);
+        assertEquals(2, storage.getJournalRecordCount());
+
+        JournalApplicationStorage newStorage =
+                createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD);
+        assertEquals(application, new Application(newStorage.readApplication().get()));
+        assertEquals(2, newStorage.getJournalRecordCount());
+    }
+
+    @Test
+    public void saveApplication_compactionThresholdReached_rewritesDataFiles() throws Exception {
+        JournalApplicationStorage storage = createStorage(2);
+        storage.saveApplication(application);
+        application.addModule(HOON);
+        storage.saveApplication(application);
+        application.addModule(IDA);
+        storage.saveApplication(application);
+        assertEquals(2, storage.getJournalRecordCount());
+
+        application.removeModule(ALICE);
+        storage.saveApplication(application);
+        assertEquals(0, storage.getJournalRecordCount());
+        JsonApplicationStorage dataFiles = new JsonApplicationStorage(moduleListFilePath, degreePlannerListFilePath,
+                requirementCategoryListFilePath);
+        assertEquals(application, new Application(dataFiles.readApplication().get()));
+        assertEquals(application, new Application(createStorage(2).readApplication().get()));
+    }
+
+    @Test
+    public void readApplication_incompleteLastRecord_replaysCompleteRecords() throws Exception {
+        JournalApplicationStorage storage = createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD);
+        storage.saveApplication(application);
+        application.addModule(HOON);
+        storage.saveApplication(application);
+        Application expected = new Application(application);
+        application.addModule(IDA);
+        storage.saveApplication(application);
+
+        // simulates a crash while the last record was written
+        try (RandomAccessFile journal = new RandomAccessFile(journalFilePath.toFile(), "rw")) {
+            journal.setLength(journal.length() - 3);
+        }
+        JournalApplicationStorage recoveredStorage =
+                createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD);
+        assertEquals(expected, new Application(recoveredStorage.readApplication().get()));
+
+        // the incomplete journal is compacted on the next save
+        recoveredStorage.saveApplication(application);
+        assertEquals(0, recoveredStorage.getJournalRecordCount());
+        assertEquals(application, new Application(createStorage(
+                JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD).readApplication().get()));
+    }
+
+    @Test
+    public void readApplication_dataFileRewrittenAfterJournaling_changesNotReplayedTwice() throws Exception {
+        JournalApplicationStorage storage = createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD);
+        storage.saveApplication(application);
+        application.addModule(HOON);
+        application.resetRequirement();
+        storage.saveApplication(application);
+
+        // simulates a crash during a compaction, after only the module list file was rewritten
+        new JsonApplicationStorage(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath)
+                .saveModuleList(application, moduleListFilePath);
+        assertEquals(application, new Application(createStorage(
+                JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD).readApplication().get()));
+    }
+
+    @Test
+    public void readApplication_throughStorageManager_replaysJournal() throws Exception {
+        JournalApplicationStorage storage = createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD);
+        StorageManager storageManager = createStorageManager(storage);
+        storageManager.saveApplication(application);
+        application.addModule(HOON);
+        storageManager.saveApplication(application);
+        assertEquals(1, storage.getJournalRecordCount());
+
+        JournalApplicationStorage newStorage =
+                createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD);
+        StorageManager newStorageManager = createStorageManager(newStorage);
+        assertEquals(application, new Application(newStorageManager.readApplication().get()));
+        assertEquals(application.getModuleList(), newStorageManager.readModuleList().get());
+
+        // the application saved is not the one read, so its changes since the journal are not known and the journal
+        // is compacted
+        application.addModule(IDA);
+        newStorageManager.saveApplication(application);
+        assertEquals(0, newStorage.getJournalRecordCount());
+        assertEquals(application, new Application(createStorageManager(
+                createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD)).readApplication().get()));
+    }
+
+    @Test
+    public void saveApplication_differentApplication_compactsJournal() throws Exception {
+        JournalApplicationStorage storage = createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD);
+        storage.saveApplication(application);
+        application.addModule(HOON);
+        storage.saveApplication(application);
+        assertEquals(1, storage.getJournalRecordCount());
+
+        // an equal copy does not know the changes made to the application saved before
+        Application copy = new Application(application);
+        copy.addModule(IDA);
+        storage.saveApplication(copy);
+        assertEquals(0, storage.getJournalRecordCount());
+        assertEquals(copy, new Application(createStorage(
+                JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD).readApplication().get()));
+    }
+
+    @Test
+    public void saveApplication_throughWriteBehindStorageManager_appendsToJournal() throws Exception {
+        JournalApplicationStorage storage = createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD);
+        StorageManager storageManager = new StorageManager(storage,
+                new JsonUserPrefsStorage(testFolder.getRoot().toPath().resolve("prefs")), true);
+        storageManager.saveApplication(application);
+        storageManager.flush();
+
+        // the snapshot written in the background holds the changes of the application
+        application.addModule(HOON);
+        storageManager.saveApplication(application);
+        storageManager.flush();
+        assertEquals(1, storage.getJournalRecordCount());
+        assertEquals(application, new Application(createStorage(
+                JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD).readApplication().get()));
+    }
+
+    @Test
+    public void mergeJournal() throws Exception {
+        JournalApplicationStorage storage = createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD);
+
+        // no journal -> returns false
+        assertFalse(storage.mergeJournal());
+
+        storage.saveApplication(application);
+        application.addModule(HOON);
+        storage.saveApplication(application);
+
+        // journal merged into the data files and deleted -> returns true
+        assertTrue(storage.mergeJournal());
+        assertFalse(FileUtil.isFileExists(journalFilePath));
+        JsonApplicationStorage dataFiles = new JsonApplicationStorage(moduleListFilePath, degreePlannerListFilePath,
+                requirementCategoryListFilePath);
+        assertEquals(application, new Application(dataFiles.readApplication().get()));
+    }
+
+    @Test
+    public void saveModuleList_throughStorageManager_compactsOnNextSave() throws Exception {
+        JournalApplicationStorage storage = createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD);
+        StorageManager storageManager = createStorageManager(storage);
+        storageManager.saveApplication(application);
+        application.addModule(HOON);
+        storageManager.saveApplication(application);
+
+        application.removeModule(ALICE);
+        storageManager.saveModuleList(application);
+        application.resetPlanner();
+        storageManager.saveApplication(application);
+        assertEquals(0, storage.getJournalRecordCount());
+        assertEquals(application, new Application(createStorageManager(
+                createStorage(JournalApplicationStorage.DEFAULT_COMPACTION_THRESHOLD)).readApplication().get()));
+    }
+
+    private StorageManager createStorageManager(JournalApplicationStorage storage) {
+        return new StorageManager(storage, new JsonUserPrefsStorage(testFolder.getRoot().toPath().resolve("prefs")));
+    }
+
+    private JournalApplicationStorage createStorage(int compactionThreshold) {
+        return new JournalApplicationStorage(moduleListFilePath, degreePlannerListFilePath,
+                requirementCategoryListFilePath, journalFilePath, compactionThreshold);
+    }
+}
@@ -10,6 +10,7 @@ import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
 import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -19,6 +20,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.FileUtil;
 import pwe.planner.model.Application;
 import pwe.planner.model.ReadOnlyApplication;
 
@@ -130,6 +132,36 @@ public class JsonApplicationStorageTest {
 
     }
 
+    @Test
+    public void saveApplication_onlyDegreePlannersModified_onlyDegreePlannerListRewritten() throws Exception {
+        Path moduleListFilePath = testFolder.getRoot().toPath().resolve("ModuleList.json");
+        Path degreePlannerListFilePath = testFolder.getRoot().toPath().resolve("DegreePlannerList.json");
+        Path requirementCategoryListFilePath = testFolder.getRoot().toPath().resolve("RequirementCategoryList.json");
+        Application original = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+        JsonApplicationStorage jsonApplicationStorage =
+                new JsonApplicationStorage(moduleListFilePath, degreePlannerListFilePath,
+                        requirementCategoryListFilePath);
+        jsonApplicationStorage.saveApplication(original);
+
+        // unmodified lists are not rewritten
+        String staleContent = "stale";
+        FileUtil.writeToFile(moduleListFilePath, staleContent);
+        FileUtil.writeToFile(requirementCategoryListFilePath, staleContent);
+        original.resetPlanner();
+        jsonApplicationStorage.saveApplication(original);
+        assertEquals(staleContent, FileUtil.readFromFile(moduleListFilePath));
+        assertEquals(staleContent, FileUtil.readFromFile(requirementCategoryListFilePath));
+        assertEquals(original.getDegreePlannerList(),
+                jsonApplicationStorage.readDegreePlannerList(degreePlannerListFilePath).get());
+
+        // missing files are rewritten even if their lists are unmodified
+        Files.delete(moduleListFilePath);
+        jsonApplicationStorage.saveApplication(original);
+        assertEquals(original.getModuleList(), jsonApplicationStorage.readModuleList(moduleListFilePath).get());
+        assertEquals(staleContent, FileUtil.readFromFile(requirementCategoryListFilePath));
+    }
+
     @Test
     public void saveApplication_nullApplication_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,86 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_1;
+import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_2;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BENSON;
+import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_FOUNDATION;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.model.ApplicationDelta;
+import pwe.planner.model.ListChange;
+
+public class JsonUndoHistorySpillTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void pushSegment_nullDeltas_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JsonUndoHistorySpill(getTempFilePath("spill")).pushSegment(null);
+    }
+
+    @Test
+    public void popSegment_noSegments_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        new JsonUndoHistorySpill(getTempFilePath("spill")).popSegment();
+    }
+
+    @Test
+    public void pushAndPopSegment_allInOrder_success() throws Exception {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(getTempFilePath("spill"));
+
+        ApplicationDelta moduleDelta = new ApplicationDelta();
+        moduleDelta.addModuleChange(new ListChange<>(0, Collections.emptyList(), Arrays.asList(ALICE, BENSON)));
+        ApplicationDelta plannerDelta = new ApplicationDelta();
+        plannerDelta.addDegreePlannerChange(new ListChange<>(1, Collections.singletonList(YEAR_1_SEMESTER_1),
+                Collections.singletonList(YEAR_1_SEMESTER_2)));
+        plannerDelta.addRequirementCategoryChange(new ListChange<>(0,
+                Collections.singletonList(COMPUTING_FOUNDATION), Collections.emptyList()));
+        List<ApplicationDelta> firstSegment = Arrays.asList(moduleDelta, plannerDelta);
+        ApplicationDelta removalDelta = new ApplicationDelta();
+        removalDelta.addModuleChange(new ListChange<>(1, Collections.singletonList(BENSON), Collections.emptyList()));
+        List<ApplicationDelta> secondSegment = Collections.singletonList(removalDelta);
+
+        spill.pushSegment(firstSegment);
+        spill.pushSegment(secondSegment);
+
+        // segments are read back in reverse order
+        assertEquals(secondSegment, spill.popSegment());
+        assertEquals(firstSegment, spill.popSegment());
+    }
+
+    @Test
+    public void clear_existingSegments_fileDeleted() throws Exception {
+        Path filePath = getTempFilePath("spill");
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(filePath);
+        spill.pushSegment(Collections.singletonList(new ApplicationDelta()));
+
+        spill.clear();
+        assertFalse(Files.exists(filePath));
+
+        // clearing an empty spill does nothing
+        spill.clear();
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
@@ -2,10 +2,17 @@ package pwe.planner.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static pwe.planner.testutil.Assert.assertThrows;
 import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.HOON;
 import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -67,6 +74,78 @@ public class StorageManagerTest {
         assertEquals(original, new Application(retrieved));
     }
 
+    @Test
+    public void saveApplication_writeBehind_savesApplicationAtTimeOfSave() throws Exception {
+        StorageManager writeBehindStorageManager = new StorageManager(new JsonApplicationStorage(getTempFilePath("ab"),
+                getTempFilePath("dp"), getTempFilePath("reqCat")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                true);
+        Application original =
+                new JsonSerializableApplication(TypicalModules.getTypicalModuleList(), getTypicalDegreePlannerList(),
+                        getTypicalRequirementCategoriesList()).toModelType();
+        Application expected = new Application(original);
+
+        writeBehindStorageManager.saveApplication(original);
+        original.addModule(HOON);
+        writeBehindStorageManager.flush();
+        assertEquals(expected, new Application(writeBehindStorageManager.readApplication().get()));
+
+        writeBehindStorageManager.saveApplication(original);
+        ReadOnlyApplication retrieved = writeBehindStorageManager.readApplication().get();
+        assertEquals(original, new Application(retrieved));
+    }
+
+    @Test
+    public void flush_writeBehindSaveFailed_retriesFailedSave() throws Exception {
+        AtomicInteger failureCount = new AtomicInteger(2);
+        JsonApplicationStorage failingApplicationStorage = new JsonApplicationStorage(getTempFilePath("ab"),
+                getTempFilePath("dp"), getTempFilePath("reqCat")) {
+            @Override
+            public void saveApplication(ReadOnlyApplication application) throws IOException {
+                if (failureCount.getAndDecrement() > 0) {
+                    throw new IOException("dummy exception");
+                }
+                super.saveApplication(application);
+            }
+        };
+        StorageManager writeBehindStorageManager = new StorageManager(failingApplicationStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        Application original =
+                new JsonSerializableApplication(TypicalModules.getTypicalModuleList(), getTypicalDegreePlannerList(),
+                        getTypicalRequirementCategoriesList()).toModelType();
+
+        // the failure is published without waiting for the next save
+        writeBehindStorageManager.saveApplication(original);
+        writeBehindStorageManager.readApplication();
+        assertNotNull(writeBehindStorageManager.saveFailureProperty().getValue());
+
+        // the failed save is retried by every flush until it succeeds
+        assertThrows(IOException.class, writeBehindStorageManager::flush);
+        writeBehindStorageManager.flush();
+        assertNull(writeBehindStorageManager.saveFailureProperty().getValue());
+        assertEquals(original, new Application(writeBehindStorageManager.readApplication().get()));
+    }
+
+    @Test
+    public void saveApplication_writeBehindSaveFailed_failurePublishedThroughFailurePublisher() throws Exception {
+        JsonApplicationStorage failingApplicationStorage = new JsonApplicationStorage(getTempFilePath("ab"),
+                getTempFilePath("dp"), getTempFilePath("reqCat")) {
+            @Override
+            public void saveApplication(ReadOnlyApplication application) throws IOException {
+                throw new IOException("dummy exception");
+            }
+        };
+        Queue<Runnable> publishedUpdates = new ConcurrentLinkedQueue<>();
+        StorageManager writeBehindStorageManager = new StorageManager(failingApplicationStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true, publishedUpdates::add);
+
+        // the failure is only set on the property by the failure publisher
+        writeBehindStorageManager.saveApplication(new Application());
+        writeBehindStorageManager.readApplication();
+        assertNull(writeBehindStorageManager.saveFailureProperty().getValue());
+        publishedUpdates.forEach(Runnable::run);
+        assertNotNull(writeBehindStorageManager.saveFailureProperty().getValue());
+    }
+
     @Test
     public void getModuleListFilePath() {
         assertNotNull(storageManager.getModuleListFilePath());